@@ -0,0 +1,73 @@
+package com.example.customermanagement.benchmark;
+
+import com.example.customermanagement.filter.BodyCapturingHttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what AuditInterceptor pays per audited request: reading the body through the
+ * capturing wrapper, as Jackson does, and decoding the compacted capture.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuditBodyCaptureBenchmark {
+
+    private static final int MAX_BODY_SIZE = 64 * 1024;
+
+    @Param({"1", "100"})
+    private int customers;
+
+    private byte[] body;
+    private final byte[] readBuffer = new byte[8192];
+
+    @Setup
+    public void setUp() {
+        body = BenchmarkData.prettyPrintedCustomersJson(customers).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String captureAuditedBody() throws IOException {
+        BodyCapturingHttpServletRequest request = new BodyCapturingHttpServletRequest(newRequest());
+        request.startCapture(MAX_BODY_SIZE);
+        consume(request);
+        return request.getCapturedBody();
+    }
+
+    @Benchmark
+    public String readUnauditedBody() throws IOException {
+        BodyCapturingHttpServletRequest request = new BodyCapturingHttpServletRequest(newRequest());
+        consume(request);
+        return request.getCapturedBody();
+    }
+
+    private MockHttpServletRequest newRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/customers");
+        request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        request.setContent(body);
+        return request;
+    }
+
+    private void consume(BodyCapturingHttpServletRequest request) throws IOException {
+        while (request.getInputStream().read(readBuffer, 0, readBuffer.length) != -1) {
+            // drain the body like a message converter would
+        }
+    }
+}
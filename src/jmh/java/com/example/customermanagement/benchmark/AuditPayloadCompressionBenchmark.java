@@ -0,0 +1,71 @@
+package com.example.customermanagement.benchmark;
+
+import com.example.customermanagement.utils.PayloadCompression;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of deflating and inflating audited request bodies of compacted customer
+ * JSON. The {@code rawBytes} and {@code storedBytes} counters of {@code deflate} give the
+ * storage saved: their ratio is the compressed size as a fraction of the original.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuditPayloadCompressionBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int customers;
+
+    private byte[] payload;
+    private byte[] compressedPayload;
+
+    @Setup
+    public void setUp() {
+        payload = BenchmarkData.compactCustomersJson(customers).getBytes(StandardCharsets.UTF_8);
+        compressedPayload = PayloadCompression.deflate(payload);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StorageCounters {
+        public long rawBytes;
+        public long storedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rawBytes = 0;
+            storedBytes = 0;
+        }
+    }
+
+    @Benchmark
+    public byte[] deflate(StorageCounters counters) {
+        byte[] compressed = PayloadCompression.deflate(payload);
+        counters.rawBytes += payload.length;
+        counters.storedBytes += compressed.length;
+        return compressed;
+    }
+
+    @Benchmark
+    public byte[] inflate() {
+        return PayloadCompression.inflate(compressedPayload);
+    }
+}
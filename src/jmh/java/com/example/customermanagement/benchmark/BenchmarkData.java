@@ -0,0 +1,64 @@
+package com.example.customermanagement.benchmark;
+
+import com.example.customermanagement.dto.AuditEntryDTO;
+import com.example.customermanagement.dto.CustomerDTO;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static CustomerDTO customerDTO(long id) {
+        return CustomerDTO.builder()
+                .id(id)
+                .name("Customer " + id)
+                .age(20 + (int) (id % 60))
+                .dateOfBirth("1985-06-" + String.format("%02d", 1 + id % 28))
+                .address(id + " Main Street, Springfield")
+                .gender(id % 2 == 0 ? "F" : "M")
+                .build();
+    }
+
+    static List<CustomerDTO> customerDTOs(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(BenchmarkData::customerDTO)
+                .toList();
+    }
+
+    static List<AuditEntryDTO> auditEntryDTOs(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> AuditEntryDTO.builder()
+                        .id(id)
+                        .action("UPDATE")
+                        .customerId(id)
+                        .request(compactCustomersJson(1))
+                        .status("SUCCESS")
+                        .creationDatetime("2024-09-01T10:15:30." + String.format("%03d", id % 1000))
+                        .build())
+                .toList();
+    }
+
+    static String prettyPrintedCustomersJson(int count) {
+        StringBuilder json = new StringBuilder(count > 1 ? "[\n" : "");
+        for (CustomerDTO customer : customerDTOs(count)) {
+            if (json.length() > 2) {
+                json.append(",\n");
+            }
+            json.append("{\n")
+                    .append("    \"name\": \"").append(customer.getName()).append("\",\n")
+                    .append("    \"age\": ").append(customer.getAge()).append(",\n")
+                    .append("    \"dateOfBirth\": \"").append(customer.getDateOfBirth()).append("\",\n")
+                    .append("    \"address\": \"").append(customer.getAddress()).append("\",\n")
+                    .append("    \"gender\": \"").append(customer.getGender()).append("\"\n")
+                    .append("}");
+        }
+        return json.append(count > 1 ? "\n]" : "").toString();
+    }
+
+    static String compactCustomersJson(int count) {
+        return prettyPrintedCustomersJson(count).replaceAll("\\n\\s*", "").replace("\": ", "\":");
+    }
+}
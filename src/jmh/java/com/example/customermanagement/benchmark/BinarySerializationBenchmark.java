@@ -0,0 +1,100 @@
+package com.example.customermanagement.benchmark;
+
+import com.example.customermanagement.dto.AuditEntryDTO;
+import com.example.customermanagement.dto.CustomerDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares JSON with the CBOR and Smile encodings served on {@code Accept: application/cbor} and
+ * {@code Accept: application/x-jackson-smile}. The binary mappers are copies of the JSON mapper,
+ * as in {@code BinaryFormatConfig}. The {@code payloadBytes} counter divided by the operation
+ * count gives the encoded size of one page.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinarySerializationBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PagedModel<CustomerDTO> customerPage;
+    private PagedModel<AuditEntryDTO> auditPage;
+    private byte[] serializedCustomerPage;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+        objectMapper = switch (format) {
+            case "cbor" -> jsonMapper.copyWith(new CBORFactory());
+            case "smile" -> jsonMapper.copyWith(new SmileFactory());
+            default -> jsonMapper;
+        };
+        customerPage = new PagedModel<>(new PageImpl<>(BenchmarkData.customerDTOs(pageSize),
+                PageRequest.of(0, pageSize), 10_000));
+        auditPage = new PagedModel<>(new PageImpl<>(BenchmarkData.auditEntryDTOs(pageSize),
+                PageRequest.of(0, pageSize), 10_000));
+        serializedCustomerPage = objectMapper.writeValueAsBytes(customerPage);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadCounters {
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeCustomerPage(PayloadCounters counters) throws JsonProcessingException {
+        byte[] payload = objectMapper.writeValueAsBytes(customerPage);
+        counters.payloadBytes += payload.length;
+        return payload;
+    }
+
+    @Benchmark
+    public byte[] serializeAuditPage(PayloadCounters counters) throws JsonProcessingException {
+        byte[] payload = objectMapper.writeValueAsBytes(auditPage);
+        counters.payloadBytes += payload.length;
+        return payload;
+    }
+
+    @Benchmark
+    public JsonNode deserializeCustomerPage() throws IOException {
+        return objectMapper.readTree(serializedCustomerPage);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.customermanagement.benchmark;
+
+import com.example.customermanagement.dto.CustomerDTO;
+import com.example.customermanagement.mapper.CustomerMapper;
+import com.example.customermanagement.mapper.CustomerMapperImpl;
+import com.example.customermanagement.model.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomerMapperBenchmark {
+
+    private final CustomerMapper customerMapper = new CustomerMapperImpl();
+
+    private CustomerDTO customerDTO;
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        customerDTO = BenchmarkData.customerDTO(1L);
+        customer = customerMapper.toEntity(customerDTO);
+    }
+
+    @Benchmark
+    public Customer toEntity() {
+        return customerMapper.toEntity(customerDTO);
+    }
+
+    @Benchmark
+    public CustomerDTO toDTO() {
+        return customerMapper.toDTO(customer);
+    }
+
+    @Benchmark
+    public Customer updateEntityFromDTO() {
+        customerMapper.updateEntityFromDTO(customerDTO, customer);
+        return customer;
+    }
+}
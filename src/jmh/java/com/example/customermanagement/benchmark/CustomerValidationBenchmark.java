@@ -0,0 +1,86 @@
+package com.example.customermanagement.benchmark;
+
+import com.example.customermanagement.dto.CustomerDTO;
+import com.example.customermanagement.validation.CustomerDTOValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validates one import chunk of customers with the reflective bean validator, as the import
+ * did before, and with {@link CustomerDTOValidator}. Every tenth customer is invalid.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomerValidationBenchmark {
+
+    @Param({"1000"})
+    private int batchSize;
+
+    private ValidatorFactory validatorFactory;
+    private Validator beanValidator;
+    private List<CustomerDTO> customers;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = validatorFactory.getValidator();
+        customers = new ArrayList<>(BenchmarkData.customerDTOs(batchSize));
+        for (int i = 0; i < customers.size(); i += 10) {
+            customers.get(i).setAge(-1);
+            customers.get(i).setDateOfBirth("1993-02-30");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public int beanValidator() {
+        int invalid = 0;
+        for (CustomerDTO customer : customers) {
+            Map<String, String> errors = new HashMap<>();
+            for (ConstraintViolation<CustomerDTO> violation : beanValidator.validate(customer)) {
+                errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+            }
+            invalid += errors.isEmpty() ? 0 : 1;
+        }
+        return invalid;
+    }
+
+    @Benchmark
+    public int customerDTOValidator() {
+        CustomerDTOValidator validator = new CustomerDTOValidator(LocalDate.now());
+        int invalid = 0;
+        for (CustomerDTO customer : customers) {
+            invalid += validator.validate(customer).isEmpty() ? 0 : 1;
+        }
+        return invalid;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.customermanagement.benchmark;
+
+import com.example.customermanagement.validation.DateValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateValidatorBenchmark {
+
+    @Param({"1993-01-01", "1993-02-30", "not-a-date"})
+    private String date;
+
+    private final DateValidator dateValidator = new DateValidator();
+
+    @Benchmark
+    public boolean isValid() {
+        return dateValidator.isValid(date, null);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.customermanagement.benchmark;
+
+import com.example.customermanagement.utils.SortUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortUtilsBenchmark {
+
+    private final List<String> allowedSortFields = List.of("id", "name", "age", "dateOfBirth", "address", "gender");
+
+    @Benchmark
+    public Pageable createPageable() {
+        return SortUtils.createPageable(3, 10, "dateOfBirth", "desc", allowedSortFields);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.customermanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "audit.capture")
+public class AuditCaptureProperties {
+
+    private DataSize maxBodySize = DataSize.ofKilobytes(64);
+}
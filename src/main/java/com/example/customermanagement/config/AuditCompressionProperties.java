@@ -0,0 +1,12 @@
+package com.example.customermanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "audit.compression")
+public class AuditCompressionProperties {
+
+    private DataSize threshold = DataSize.ofKilobytes(1);
+}
@@ -0,0 +1,16 @@
+package com.example.customermanagement.config;
+
+import com.example.customermanagement.utils.PartitionGranularity;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "audit.partition")
+public class AuditPartitionProperties {
+
+    private PartitionGranularity granularity = PartitionGranularity.DAILY;
+    private Duration retention = Duration.ofDays(90);
+    private String cleanupCron = "0 15 3 * * *";
+}
@@ -0,0 +1,24 @@
+package com.example.customermanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "audit.writer")
+public class AuditWriterProperties {
+
+    private boolean async = true;
+    private int queueCapacity = 10_000;
+    private int batchSize = 500;
+    private Duration flushInterval = Duration.ofMillis(200);
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    public enum OverflowPolicy {
+        BLOCK,
+        DROP,
+        SYNC
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.customermanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "customer.bulk-import")
+public class BulkImportProperties {
+
+    private int chunkSize = 1000;
+    private int maxReportedErrors = 1000;
+}
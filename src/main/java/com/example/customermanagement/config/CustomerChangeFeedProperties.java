@@ -0,0 +1,17 @@
+package com.example.customermanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "customer.changes")
+public class CustomerChangeFeedProperties {
+
+    private boolean enabled = true;
+    private int bufferSize = 1000;
+    private int backlogPageSize = 500;
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    private Duration timeout = Duration.ofMinutes(30);
+}
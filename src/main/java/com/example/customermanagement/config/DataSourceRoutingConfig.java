@@ -0,0 +1,57 @@
+package com.example.customermanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+
+/**
+ * Replaces the auto-configured data source with a writer pool on {@code spring.datasource} and
+ * a reader pool on {@code datasource.routing.reader}, routed per transaction by
+ * {@link ReadWriteRoutingDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public HikariDataSource writerDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("writer");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource readerDataSource(DataSourceRoutingProperties properties) {
+        DataSourceRoutingProperties.Reader reader = properties.getReader();
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(reader.getDriverClassName())
+                .url(reader.getUrl())
+                .username(reader.getUsername())
+                .password(reader.getPassword())
+                .build();
+        dataSource.setPoolName("reader");
+        dataSource.setMaximumPoolSize(reader.getMaximumPoolSize());
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writerDataSource") DataSource writerDataSource,
+                                 @Qualifier("readerDataSource") DataSource readerDataSource,
+                                 DataSourceRoutingProperties properties) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(writerDataSource, readerDataSource,
+                properties.getReadYourWritesWindow(), Clock.systemDefaultZone()));
+    }
+}
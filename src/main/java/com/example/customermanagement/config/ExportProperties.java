@@ -0,0 +1,11 @@
+package com.example.customermanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "customer.export")
+public class ExportProperties {
+
+    private int fetchSize = 500;
+}
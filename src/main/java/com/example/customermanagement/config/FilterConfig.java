@@ -1,6 +1,6 @@
 package com.example.customermanagement.config;
 
-import com.example.customermanagement.filter.RequestBodyCachingFilter;
+import com.example.customermanagement.filter.RequestBodyCapturingFilter;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,10 +9,10 @@ import org.springframework.context.annotation.Configuration;
 public class FilterConfig {
 
     @Bean
-    public FilterRegistrationBean<RequestBodyCachingFilter> requestBodyCachingFilter() {
-        FilterRegistrationBean<RequestBodyCachingFilter> registrationBean = new FilterRegistrationBean<>();
+    public FilterRegistrationBean<RequestBodyCapturingFilter> requestBodyCapturingFilter() {
+        FilterRegistrationBean<RequestBodyCapturingFilter> registrationBean = new FilterRegistrationBean<>();
 
-        registrationBean.setFilter(new RequestBodyCachingFilter());
+        registrationBean.setFilter(new RequestBodyCapturingFilter());
         registrationBean.setOrder(1);
         registrationBean.addUrlPatterns("/api/customers/*");
 
@@ -0,0 +1,35 @@
+package com.example.customermanagement.config;
+
+import com.example.customermanagement.dto.SliceResponse;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdDelegatingSerializer;
+import com.fasterxml.jackson.databind.util.StdConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.SliceImpl;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Pages are written through the {@code VIA_DTO} page serialization; this does the same for
+     * the slices returned without a count, so their Pageable and Sort internals are not exposed.
+     */
+    @Bean
+    public Module sliceModule() {
+        SimpleModule module = new SimpleModule("SliceModule");
+        module.addSerializer(SliceImpl.class, new StdDelegatingSerializer(new SliceConverter()));
+        return module;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final class SliceConverter extends StdConverter<SliceImpl, SliceResponse> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public SliceResponse convert(SliceImpl slice) {
+            return SliceResponse.of(slice);
+        }
+    }
+}
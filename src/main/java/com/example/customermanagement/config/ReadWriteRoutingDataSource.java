@@ -0,0 +1,146 @@
+package com.example.customermanagement.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.WebUtils;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the reader pool and everything else to the writer pool. The
+ * pool is chosen when a transaction first runs a statement, so this must sit behind a
+ * {@link LazyConnectionDataSourceProxy}; by then the transaction's read-only flag is known.
+ *
+ * <p>With a read-your-writes window, a committed write pins the client to the writer for that
+ * long: for the rest of the request through a request attribute, and for later requests
+ * through a cookie holding the time the pin expires, so the pin holds whichever instance
+ * serves them. A zero window turns this off.
+ *
+ * <p>A read-only transaction can also ask for the writer with {@link #routeToWriter()}, for
+ * reads whose result outlives the request, such as cache population.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PINNED_UNTIL_COOKIE = "rw-pinned-until";
+    private static final String PINNED_ATTRIBUTE = ReadWriteRoutingDataSource.class.getName() + ".PINNED";
+    private static final String WRITER_REQUESTED = ReadWriteRoutingDataSource.class.getName() + ".WRITER_REQUESTED";
+
+    enum Target {
+        WRITER,
+        READER
+    }
+
+    private final Duration readYourWritesWindow;
+    private final Clock clock;
+
+    public ReadWriteRoutingDataSource(DataSource writer, DataSource reader, Duration readYourWritesWindow,
+                                      Clock clock) {
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.clock = clock;
+        setTargetDataSources(Map.of(Target.WRITER, writer, Target.READER, reader));
+        setDefaultTargetDataSource(writer);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Sends the current transaction to the writer even if it is read-only. Must be called
+     * before the transaction runs its first statement; does nothing outside a transaction,
+     * where the writer is used anyway.
+     */
+    public static void routeToWriter() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITER_REQUESTED)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITER_REQUESTED, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITER_REQUESTED);
+            }
+        });
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                pinAfterCommit();
+            }
+            return Target.WRITER;
+        }
+        if (TransactionSynchronizationManager.hasResource(WRITER_REQUESTED)) {
+            return Target.WRITER;
+        }
+        return isPinned() ? Target.WRITER : Target.READER;
+    }
+
+    private void pinAfterCommit() {
+        ServletRequestAttributes attributes = currentRequestAttributes();
+        if (attributes == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pin(attributes);
+            }
+        });
+    }
+
+    private void pin(ServletRequestAttributes attributes) {
+        HttpServletRequest request = attributes.getRequest();
+        if (request.getAttribute(PINNED_ATTRIBUTE) != null) {
+            return;
+        }
+        request.setAttribute(PINNED_ATTRIBUTE, Boolean.TRUE);
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        Cookie cookie = new Cookie(PINNED_UNTIL_COOKIE,
+                Long.toString(clock.millis() + readYourWritesWindow.toMillis()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge(Math.toIntExact(Math.max(1, readYourWritesWindow.toSeconds())));
+        response.addCookie(cookie);
+    }
+
+    private boolean isPinned() {
+        ServletRequestAttributes attributes = currentRequestAttributes();
+        if (attributes == null) {
+            return false;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        if (request.getAttribute(PINNED_ATTRIBUTE) != null) {
+            return true;
+        }
+        Cookie cookie = WebUtils.getCookie(request, PINNED_UNTIL_COOKIE);
+        if (cookie == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(cookie.getValue()) > clock.millis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private ServletRequestAttributes currentRequestAttributes() {
+        if (readYourWritesWindow.isZero()) {
+            return null;
+        }
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes : null;
+    }
+}
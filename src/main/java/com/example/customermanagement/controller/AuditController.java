@@ -1,9 +1,11 @@
 package com.example.customermanagement.controller;
 
 import com.example.customermanagement.dto.AuditEntryDTO;
+import com.example.customermanagement.dto.AuditEntryFilter;
+import com.example.customermanagement.dto.CursorPage;
 import com.example.customermanagement.service.AuditService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -21,11 +23,23 @@ public class AuditController {
     }
 
     @GetMapping
-    public Page<AuditEntryDTO> getAuditEntries(
+    public Slice<AuditEntryDTO> getAuditEntries(
+            AuditEntryFilter filter,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "100") int size,
             @RequestParam(defaultValue = "creationDatetime") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "exact") String count) {
+        return auditService.getAuditEntries(filter, page, size, sortBy, sortDir, count);
+    }
+
+    @GetMapping(params = "cursor")
+    public CursorPage<AuditEntryDTO> getAuditEntriesByCursor(
+            AuditEntryFilter filter,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(defaultValue = "creationDatetime") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDir) {
-        return auditService.getAuditEntries(page, size, sortBy, sortDir);
+        return auditService.getAuditEntriesByCursor(filter, cursor, size, sortBy, sortDir);
     }
 }
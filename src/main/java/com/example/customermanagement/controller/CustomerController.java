@@ -1,66 +1,234 @@
 package com.example.customermanagement.controller;
 
 import com.example.customermanagement.annotation.Auditable;
+import com.example.customermanagement.dto.BatchGetResult;
+import com.example.customermanagement.dto.BulkDeleteResult;
+import com.example.customermanagement.dto.BulkImportResult;
+import com.example.customermanagement.dto.CursorPage;
 import com.example.customermanagement.dto.CustomerDTO;
+import com.example.customermanagement.dto.CustomerStatsDTO;
+import com.example.customermanagement.interceptor.AuditInterceptor;
+import com.example.customermanagement.service.CustomerBulkDeleteService;
+import com.example.customermanagement.service.CustomerChangeFeed;
+import com.example.customermanagement.service.CustomerExportService;
+import com.example.customermanagement.service.CustomerImportService;
+import com.example.customermanagement.service.CustomerSearchService;
 import com.example.customermanagement.service.CustomerService;
+import com.example.customermanagement.service.CustomerStatsService;
+import com.example.customermanagement.utils.ETagUtils;
+import com.example.customermanagement.utils.ExportFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/customers")
 public class CustomerController {
 
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final CustomerService customerService;
+    private final CustomerImportService customerImportService;
+    private final CustomerBulkDeleteService customerBulkDeleteService;
+    private final CustomerExportService customerExportService;
+    private final CustomerSearchService customerSearchService;
+    private final CustomerStatsService customerStatsService;
+    private final CustomerChangeFeed customerChangeFeed;
 
     @Autowired
-    public CustomerController(CustomerService customerService) {
+    public CustomerController(CustomerService customerService,
+                              CustomerImportService customerImportService,
+                              CustomerBulkDeleteService customerBulkDeleteService,
+                              CustomerExportService customerExportService,
+                              CustomerSearchService customerSearchService,
+                              CustomerStatsService customerStatsService,
+                              CustomerChangeFeed customerChangeFeed) {
         this.customerService = customerService;
+        this.customerImportService = customerImportService;
+        this.customerBulkDeleteService = customerBulkDeleteService;
+        this.customerExportService = customerExportService;
+        this.customerSearchService = customerSearchService;
+        this.customerStatsService = customerStatsService;
+        this.customerChangeFeed = customerChangeFeed;
     }
 
 
     @Auditable(action = "CREATE")
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public CustomerDTO createCustomer(@Valid @RequestBody CustomerDTO customerDTO) {
-        return customerService.createCustomer(customerDTO);
+    public ResponseEntity<CustomerDTO> createCustomer(@Valid @RequestBody CustomerDTO customerDTO,
+                                                      HttpServletRequest request) {
+        CustomerDTO customer = customerService.createCustomer(customerDTO);
+        request.setAttribute(AuditInterceptor.CUSTOMER_ID_ATTRIBUTE, customer.getId());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ETagUtils.toETag(customer.getVersion()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(customer);
+    }
+
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public BulkImportResult importCustomers(InputStream requestBody) throws IOException {
+        return customerImportService.importCustomers(requestBody);
+    }
+
+    @PostMapping("/bulk-delete")
+    public BulkDeleteResult deleteCustomers(@RequestBody List<Long> ids) {
+        return customerBulkDeleteService.deleteCustomers(ids);
+    }
+
+    @GetMapping("/export")
+    public void exportCustomers(@RequestParam(defaultValue = "ndjson") String format,
+                                HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("customers." + exportFormat.name().toLowerCase())
+                .build()
+                .toString());
+        customerExportService.exportCustomers(exportFormat, response.getOutputStream());
+    }
+
+    @GetMapping("/search")
+    public Page<CustomerDTO> searchCustomers(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return customerSearchService.searchCustomers(q, page, size);
+    }
+
+    @GetMapping("/stats")
+    public CustomerStatsDTO getCustomerStats() {
+        return customerStatsService.getStats();
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        if (!customerChangeFeed.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(customerChangeFeed.subscribe(lastEventId));
     }
 
     @GetMapping
-    public Page<CustomerDTO> getAllCustomers(
+    public Slice<CustomerDTO> getAllCustomers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "exact") String count) {
+        return customerService.getAllCustomers(page, size, sortBy, sortDir, count);
+    }
+
+    @GetMapping(params = {"fields", "!cursor"})
+    public Slice<Map<String, Object>> getCustomerFields(
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "exact") String count) {
+        return customerService.getCustomerFields(page, size, sortBy, sortDir, count, fields);
+    }
+
+    @GetMapping(params = "cursor")
+    public CursorPage<CustomerDTO> getCustomersByCursor(
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir) {
-        return customerService.getAllCustomers(page, size, sortBy, sortDir);
+        return customerService.getCustomersByCursor(cursor, size, sortBy, sortDir);
+    }
+
+    @PostMapping("/batch-get")
+    public BatchGetResult getCustomersByIds(@RequestBody List<Long> ids) {
+        return customerService.getCustomersByIds(ids);
     }
 
     @GetMapping("/{id}")
-    public CustomerDTO getCustomerById(@PathVariable Long id) {
-        return customerService.getCustomerById(id);
+    public ResponseEntity<CustomerDTO> getCustomerById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            long version = customerService.getCustomerVersion(id);
+            if (ETagUtils.matchesIfNoneMatch(ifNoneMatch, version)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(ETagUtils.toETag(version))
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .build();
+            }
+        }
+        CustomerDTO customer = customerService.getCustomerById(id);
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.toETag(customer.getVersion()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(customer);
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public Map<String, Object> getCustomerFieldsById(@PathVariable Long id, @RequestParam String fields) {
+        return customerService.getCustomerFieldsById(id, fields);
     }
 
     @Auditable(action = "UPDATE")
     @PutMapping("/{id}")
-    public CustomerDTO updateCustomer(@PathVariable Long id, @Valid @RequestBody CustomerDTO customerDTO) {
-        return customerService.updateCustomer(id, customerDTO);
+    public ResponseEntity<CustomerDTO> updateCustomer(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody CustomerDTO customerDTO) {
+        CustomerDTO customer = customerService.updateCustomer(id, customerDTO, ETagUtils.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.toETag(customer.getVersion()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(customer);
+    }
+
+    @Auditable(action = "UPDATE")
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CustomerDTO> patchCustomer(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody Map<String, Object> patch) {
+        CustomerDTO customer = customerService.patchCustomer(id, patch, ETagUtils.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.toETag(customer.getVersion()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(customer);
     }
 
     @Auditable(action = "DELETE")
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void deleteCustomer(@PathVariable Long id) {
-        customerService.deleteCustomer(id);
+    public void deleteCustomer(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        customerService.deleteCustomer(id, ETagUtils.parseIfMatch(ifMatch));
     }
 }
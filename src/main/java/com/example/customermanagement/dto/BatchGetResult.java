@@ -0,0 +1,13 @@
+package com.example.customermanagement.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BatchGetResult {
+    private List<CustomerDTO> customers;
+    private List<Long> missingIds;
+}
@@ -0,0 +1,15 @@
+package com.example.customermanagement.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BulkDeleteResult {
+    private long received;
+    private long deleted;
+    private List<Long> missingIds;
+    private List<Long> failedIds;
+}
@@ -0,0 +1,13 @@
+package com.example.customermanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class BulkImportError {
+    private long index;
+    private Map<String, String> errors;
+}
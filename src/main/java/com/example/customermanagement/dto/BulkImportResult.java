@@ -0,0 +1,15 @@
+package com.example.customermanagement.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BulkImportResult {
+    private long received;
+    private long imported;
+    private long failed;
+    private List<BulkImportError> errors;
+}
@@ -1,6 +1,7 @@
 package com.example.customermanagement.dto;
 
 import com.example.customermanagement.annotation.ValidDate;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
@@ -30,4 +31,7 @@ public class CustomerDTO {
 
     @Pattern(regexp = "[MF]", message = "Gender must be 'M' (Male), 'F' (Female), or null")
     private String gender;
+
+    @JsonIgnore
+    private Long version;
 }
@@ -0,0 +1,15 @@
+package com.example.customermanagement.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+public class CustomerStatsDTO {
+    private long total;
+    private Map<String, Long> byGender;
+    private Map<String, Long> byAgeBucket;
+    private Map<String, Long> byBirthDecade;
+}
@@ -0,0 +1,37 @@
+package com.example.customermanagement.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * JSON form of an uncounted {@link Slice}, laid out like the {@code VIA_DTO} page form: the
+ * content and a {@code page} block, which has {@code hasNext} in place of the totals.
+ */
+@Data
+@Builder
+public class SliceResponse<T> {
+    private List<T> content;
+    private SliceMetadata page;
+
+    public static <T> SliceResponse<T> of(Slice<T> slice) {
+        return SliceResponse.<T>builder()
+                .content(slice.getContent())
+                .page(SliceMetadata.builder()
+                        .size(slice.getSize())
+                        .number(slice.getNumber())
+                        .hasNext(slice.hasNext())
+                        .build())
+                .build();
+    }
+
+    @Data
+    @Builder
+    public static class SliceMetadata {
+        private int size;
+        private int number;
+        private boolean hasNext;
+    }
+}
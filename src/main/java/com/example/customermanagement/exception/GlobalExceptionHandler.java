@@ -5,6 +5,7 @@ import com.example.customermanagement.exception.response.ValidationErrorResponse
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -53,6 +54,13 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(validationErrorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(InvalidPatchException.class)
+    public ResponseEntity<ValidationErrorResponse> handleInvalidPatchException(InvalidPatchException ex, HttpServletRequest request) {
+        logAndSetHandledException(ex, request, "Invalid patch: {}", false);
+        ValidationErrorResponse validationErrorResponse = createValidationErrorResponse(HttpStatus.BAD_REQUEST, VALIDATION_FAILED_MESSAGE, ex.getErrors());
+        return new ResponseEntity<>(validationErrorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ValidationErrorResponse> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex, HttpServletRequest request) {
         logAndSetHandledException(ex, request, "Malformed JSON request: {}", false);
@@ -83,6 +91,34 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(InvalidFieldsParameterException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFieldsParameterException(InvalidFieldsParameterException ex, HttpServletRequest request) {
+        logAndSetHandledException(ex, request, "InvalidFieldsParameterException: {}", false);
+        ErrorResponse errorResponse = createErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException ex, HttpServletRequest request) {
+        logAndSetHandledException(ex, request, "InvalidCursorException: {}", false);
+        ErrorResponse errorResponse = createErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException ex, HttpServletRequest request) {
+        logAndSetHandledException(ex, request, "PreconditionFailedException: {}", false);
+        ErrorResponse errorResponse = createErrorResponse(HttpStatus.PRECONDITION_FAILED, ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex, HttpServletRequest request) {
+        logAndSetHandledException(ex, request, "OptimisticLockingFailureException: {}", false);
+        ErrorResponse errorResponse = createErrorResponse(HttpStatus.PRECONDITION_FAILED, "The resource was modified concurrently");
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
     @ExceptionHandler(NoResourceFoundException.class)
     public ResponseEntity<ErrorResponse> handleNoResourceFoundException(NoResourceFoundException ex, HttpServletRequest request) {
         logAndSetHandledException(ex, request, "NoResourceFoundException: {}", false);
@@ -0,0 +1,8 @@
+package com.example.customermanagement.exception;
+
+public class InvalidFieldsParameterException extends RuntimeException {
+
+    public InvalidFieldsParameterException(String message) {
+        super(message);
+    }
+}
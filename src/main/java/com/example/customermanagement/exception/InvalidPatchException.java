@@ -0,0 +1,17 @@
+package com.example.customermanagement.exception;
+
+import java.util.Map;
+
+public class InvalidPatchException extends RuntimeException {
+
+    private final Map<String, String> errors;
+
+    public InvalidPatchException(Map<String, String> errors) {
+        super("Invalid patch: " + errors);
+        this.errors = errors;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
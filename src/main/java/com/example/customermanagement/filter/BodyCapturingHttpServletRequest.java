@@ -0,0 +1,147 @@
+package com.example.customermanagement.filter;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Records the request body as it is read by the application instead of buffering it up front.
+ * Nothing is recorded until {@link #startCapture(int)} is called; from then on every byte read
+ * from the input stream is copied, minus whitespace, into a buffer bounded by the given limit.
+ * Binary bodies are captured with {@link #startCapture(int, boolean)}, which keeps every byte.
+ */
+public class BodyCapturingHttpServletRequest extends HttpServletRequestWrapper {
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+    private byte[] captured;
+    private int capturedCount;
+    private int captureLimit;
+    private boolean skipWhitespace;
+
+    public BodyCapturingHttpServletRequest(HttpServletRequest request) {
+        super(request);
+    }
+
+    public void startCapture(int limit) {
+        startCapture(limit, true);
+    }
+
+    public void startCapture(int limit, boolean skipWhitespace) {
+        if (captured == null) {
+            captureLimit = limit;
+            this.skipWhitespace = skipWhitespace;
+            captured = new byte[Math.min(limit, INITIAL_BUFFER_SIZE)];
+        }
+    }
+
+    /**
+     * Returns the bytes read since capturing started, with whitespace removed, decoded with the
+     * request's character encoding, or {@code null} if nothing was captured.
+     */
+    public String getCapturedBody() {
+        if (capturedCount == 0) {
+            return null;
+        }
+        return new String(captured, 0, capturedCount, getCharset());
+    }
+
+    /**
+     * Returns the bytes read since capturing started, or {@code null} if nothing was captured.
+     */
+    public byte[] getCapturedBytes() {
+        if (capturedCount == 0) {
+            return null;
+        }
+        return Arrays.copyOf(captured, capturedCount);
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new CapturingInputStream(super.getInputStream());
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), getCharset()));
+        }
+        return reader;
+    }
+
+    private Charset getCharset() {
+        String encoding = getCharacterEncoding();
+        return encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+    }
+
+    private void capture(int b) {
+        if (captured == null || (skipWhitespace && isWhitespace(b)) || capturedCount == captureLimit) {
+            return;
+        }
+        if (capturedCount == captured.length) {
+            captured = Arrays.copyOf(captured, Math.min(captured.length * 2, captureLimit));
+        }
+        captured[capturedCount++] = (byte) b;
+    }
+
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == 0x0B || b == '\f' || b == '\r';
+    }
+
+    private class CapturingInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+
+        private CapturingInputStream(ServletInputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b != -1) {
+                capture(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
+            if (captured != null) {
+                for (int i = off; i < off + read; i++) {
+                    capture(b[i] & 0xFF);
+                }
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+}
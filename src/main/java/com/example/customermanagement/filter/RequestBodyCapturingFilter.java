@@ -8,13 +8,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
-public class RequestBodyCachingFilter extends OncePerRequestFilter {
+public class RequestBodyCapturingFilter extends OncePerRequestFilter {
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        CachedBodyHttpServletRequest cachedBodyRequest = new CachedBodyHttpServletRequest(request);
-        filterChain.doFilter(cachedBodyRequest, response);
+        BodyCapturingHttpServletRequest capturingRequest = new BodyCapturingHttpServletRequest(request);
+        filterChain.doFilter(capturingRequest, response);
     }
 }
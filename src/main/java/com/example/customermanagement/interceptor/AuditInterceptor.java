@@ -1,40 +1,75 @@
 package com.example.customermanagement.interceptor;
 
 import com.example.customermanagement.annotation.Auditable;
-import com.example.customermanagement.service.AuditService;
-import com.example.customermanagement.filter.CachedBodyHttpServletRequest;
+import com.example.customermanagement.config.AuditCaptureProperties;
+import com.example.customermanagement.filter.BodyCapturingHttpServletRequest;
+import com.example.customermanagement.service.AuditWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.WebUtils;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Component
 public class AuditInterceptor implements HandlerInterceptor {
 
-    private static final ThreadLocal<AuditContext> AUDIT_CONTEXT_THREAD_LOCAL = new ThreadLocal<>();
+    /**
+     * Request attribute a handler sets to the id of the customer it created, for requests whose
+     * URI carries no customer id.
+     */
+    public static final String CUSTOMER_ID_ATTRIBUTE = AuditInterceptor.class.getName() + ".CUSTOMER_ID";
+    private static final String AUDIT_CONTEXT_ATTRIBUTE = AuditInterceptor.class.getName() + ".AUDIT_CONTEXT";
     private static final String HANDLED_EXCEPTION_ATTRIBUTE = "HANDLED_EXCEPTION";
     private static final String CUSTOMER_ID_PARAM = "id";
 
-    private final AuditService auditService;
+    private final AuditWriter auditWriter;
+    private final int maxBodySize;
+    private final MeterRegistry meterRegistry;
+    private final Timer captureTimer;
+    private final ObjectMapper objectMapper;
+    private final Map<MediaType, ObjectMapper> binaryBodyMappers = new HashMap<>();
 
-    public AuditInterceptor(AuditService auditService) {
-        this.auditService = auditService;
+    public AuditInterceptor(AuditWriter auditWriter, AuditCaptureProperties captureProperties,
+                            MeterRegistry meterRegistry, ObjectMapper objectMapper,
+                            MappingJackson2CborHttpMessageConverter cborConverter,
+                            MappingJackson2SmileHttpMessageConverter smileConverter) {
+        this.auditWriter = auditWriter;
+        this.maxBodySize = Math.toIntExact(captureProperties.getMaxBodySize().toBytes());
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        for (AbstractJackson2HttpMessageConverter converter : List.of(cborConverter, smileConverter)) {
+            converter.getSupportedMediaTypes()
+                    .forEach(mediaType -> binaryBodyMappers.put(mediaType, converter.getObjectMapper()));
+        }
+        this.captureTimer = Timer.builder("audit.capture")
+                .description("Time to extract the audited request body and hand the entry to the writer")
+                .register(meterRegistry);
     }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
         String action = getActionFromHandler(handler);
         if (action != null) {
-            String requestBody = getRequestBody(request);
+            ObjectMapper binaryBodyMapper = getBinaryBodyMapper(request);
+            startBodyCapture(request, binaryBodyMapper == null);
             Long customerId = getCustomerIdFromRequest(request);
-            AUDIT_CONTEXT_THREAD_LOCAL.set(new AuditContext(action, customerId, requestBody));
+            request.setAttribute(AUDIT_CONTEXT_ATTRIBUTE, new AuditContext(action, customerId, binaryBodyMapper));
         }
 
         return true;
@@ -43,16 +78,18 @@ public class AuditInterceptor implements HandlerInterceptor {
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
                                 Object handler, Exception ex) {
-        AuditContext auditContext = AUDIT_CONTEXT_THREAD_LOCAL.get();
+        AuditContext auditContext = (AuditContext) request.getAttribute(AUDIT_CONTEXT_ATTRIBUTE);
         if (auditContext != null) {
             String status = determineStatus(ex, request);
-            auditService.createAuditEntry(
+            captureTimer.record(() -> auditWriter.submit(
                     auditContext.action(),
-                    auditContext.customerId(),
-                    auditContext.requestBody(),
+                    Optional.ofNullable(auditContext.customerId())
+                            .orElse((Long) request.getAttribute(CUSTOMER_ID_ATTRIBUTE)),
+                    getRequestBody(request, auditContext.binaryBodyMapper()),
                     status
-            );
-            AUDIT_CONTEXT_THREAD_LOCAL.remove();
+            ));
+            meterRegistry.counter("audit.requests", "action", auditContext.action(), "status", status).increment();
+            request.removeAttribute(AUDIT_CONTEXT_ATTRIBUTE);
         }
     }
 
@@ -72,14 +109,52 @@ public class AuditInterceptor implements HandlerInterceptor {
                 ? "SUCCESS" : "FAILED";
     }
 
-    private String getRequestBody(HttpServletRequest request) throws IOException {
-        if (request instanceof CachedBodyHttpServletRequest cachedRequest) {
-            String requestBody = cachedRequest.getReader().lines()
-                    .collect(Collectors.joining())
-                    .replaceAll("\\s+", "");
-            return requestBody.isEmpty() ? null : requestBody;
+    /**
+     * Returns the mapper for a CBOR or Smile request body, or {@code null} for text bodies.
+     */
+    private ObjectMapper getBinaryBodyMapper(HttpServletRequest request) {
+        if (request.getContentType() == null) {
+            return null;
+        }
+        try {
+            MediaType contentType = MediaType.parseMediaType(request.getContentType());
+            return binaryBodyMappers.get(new MediaType(contentType.getType(), contentType.getSubtype()));
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+    }
+
+    private void startBodyCapture(HttpServletRequest request, boolean skipWhitespace) {
+        BodyCapturingHttpServletRequest capturingRequest =
+                WebUtils.getNativeRequest(request, BodyCapturingHttpServletRequest.class);
+        if (capturingRequest != null) {
+            capturingRequest.startCapture(maxBodySize, skipWhitespace);
+        }
+    }
+
+    /**
+     * Returns the captured body as text. Binary bodies are transcoded to compact JSON so audit
+     * entries read the same whatever encoding the client used; a binary body cut off at the
+     * capture limit cannot be decoded and is not recorded.
+     */
+    private String getRequestBody(HttpServletRequest request, ObjectMapper binaryBodyMapper) {
+        BodyCapturingHttpServletRequest capturingRequest =
+                WebUtils.getNativeRequest(request, BodyCapturingHttpServletRequest.class);
+        if (capturingRequest == null) {
+            return null;
+        }
+        if (binaryBodyMapper == null) {
+            return capturingRequest.getCapturedBody();
+        }
+        byte[] body = capturingRequest.getCapturedBytes();
+        if (body == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(binaryBodyMapper.readTree(body));
+        } catch (IOException e) {
+            return null;
         }
-        return null;
     }
 
     private Long getCustomerIdFromRequest(HttpServletRequest request) {
@@ -91,5 +166,5 @@ public class AuditInterceptor implements HandlerInterceptor {
                 .orElse(null);
     }
 
-    private record AuditContext(String action, Long customerId, String requestBody) {}
+    private record AuditContext(String action, Long customerId, ObjectMapper binaryBodyMapper) {}
 }
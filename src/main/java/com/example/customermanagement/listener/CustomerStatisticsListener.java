@@ -0,0 +1,35 @@
+package com.example.customermanagement.listener;
+
+import com.example.customermanagement.model.Customer;
+import com.example.customermanagement.service.CustomerStatistics;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Keeps {@link CustomerStatistics} current as customers are inserted, updated and removed
+ * through the persistence context. Hibernate creates this listener through the Spring bean
+ * factory; the statistics are looked up lazily so that contexts without them, such as JPA
+ * slice tests, still start. Bulk JPQL statements do not trigger these callbacks, so their
+ * callers update the statistics themselves.
+ */
+public class CustomerStatisticsListener {
+
+    private final ObjectProvider<CustomerStatistics> customerStatistics;
+
+    public CustomerStatisticsListener(ObjectProvider<CustomerStatistics> customerStatistics) {
+        this.customerStatistics = customerStatistics;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Customer customer) {
+        customerStatistics.ifAvailable(statistics -> statistics.recordAfterCommit(customer));
+    }
+
+    @PostRemove
+    public void onRemove(Customer customer) {
+        customerStatistics.ifAvailable(statistics -> statistics.removeAfterCommit(customer.getId()));
+    }
+}
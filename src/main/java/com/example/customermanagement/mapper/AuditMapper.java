@@ -2,10 +2,13 @@ package com.example.customermanagement.mapper;
 
 import com.example.customermanagement.dto.AuditEntryDTO;
 import com.example.customermanagement.model.AuditEntry;
+import com.example.customermanagement.utils.PayloadCompression;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", imports = PayloadCompression.class)
 public interface AuditMapper {
 
+    @Mapping(target = "request", expression = "java(PayloadCompression.decompressRequest(auditEntry))")
     AuditEntryDTO toDTO(AuditEntry auditEntry);
 }
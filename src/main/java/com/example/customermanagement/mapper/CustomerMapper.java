@@ -11,11 +11,13 @@ import org.mapstruct.NullValuePropertyMappingStrategy;
 @Mapper(componentModel = "spring")
 public interface CustomerMapper {
 
+    @Mapping(target = "version", ignore = true)
     Customer toEntity(CustomerDTO customerDTO);
 
     CustomerDTO toDTO(Customer customer);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.SET_TO_NULL)
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntityFromDTO(CustomerDTO customerDTO, @MappingTarget Customer customer);
 }
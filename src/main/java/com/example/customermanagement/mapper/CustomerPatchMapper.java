@@ -0,0 +1,83 @@
+package com.example.customermanagement.mapper;
+
+import com.example.customermanagement.dto.CustomerDTO;
+import com.example.customermanagement.exception.InvalidPatchException;
+import com.example.customermanagement.model.Customer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Turns a JSON Merge Patch (RFC 7396) document into the column values it changes. Members
+ * that are present are validated with the {@link CustomerDTO} constraints and converted to
+ * entity types by {@link CustomerMapper}; a {@code null} member clears the field and an
+ * absent member leaves it unchanged.
+ */
+@Component
+public class CustomerPatchMapper {
+
+    private static final String NOT_PATCHABLE_MESSAGE = "Field cannot be patched";
+    private static final String INVALID_VALUE_MESSAGE = "Invalid value";
+    private static final Map<String, Function<Customer, Object>> PATCHABLE_FIELDS = Map.of(
+            "name", Customer::getName,
+            "age", Customer::getAge,
+            "dateOfBirth", Customer::getDateOfBirth,
+            "address", Customer::getAddress,
+            "gender", Customer::getGender
+    );
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final CustomerMapper customerMapper;
+
+    @Autowired
+    public CustomerPatchMapper(ObjectMapper objectMapper, Validator validator, CustomerMapper customerMapper) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.customerMapper = customerMapper;
+    }
+
+    public Map<String, Object> toColumnValues(Map<String, Object> patch) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        Map<String, Object> patchableMembers = new LinkedHashMap<>();
+        patch.forEach((field, value) -> {
+            if (PATCHABLE_FIELDS.containsKey(field)) {
+                patchableMembers.put(field, value);
+            } else {
+                errors.put(field, NOT_PATCHABLE_MESSAGE);
+            }
+        });
+
+        CustomerDTO customerDTO = CustomerDTO.builder().build();
+        for (Map.Entry<String, Object> member : patchableMembers.entrySet()) {
+            try {
+                objectMapper.updateValue(customerDTO, Collections.singletonMap(member.getKey(), member.getValue()));
+            } catch (JsonMappingException e) {
+                errors.put(member.getKey(), INVALID_VALUE_MESSAGE);
+            }
+        }
+        for (String field : patchableMembers.keySet()) {
+            for (ConstraintViolation<CustomerDTO> violation : validator.validateProperty(customerDTO, field)) {
+                errors.putIfAbsent(field, violation.getMessage());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new InvalidPatchException(errors);
+        }
+
+        Customer customer = customerMapper.toEntity(customerDTO);
+        Map<String, Object> columnValues = new LinkedHashMap<>();
+        for (String field : patchableMembers.keySet()) {
+            columnValues.put(field, PATCHABLE_FIELDS.get(field).apply(customer));
+        }
+        return columnValues;
+    }
+}
@@ -2,20 +2,30 @@ package com.example.customermanagement.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.PartitionKey;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "AUDIT_ENTRIES")
+@Table(name = "AUDIT_ENTRIES", indexes = {
+        @Index(name = "IDX_AUDIT_ENTRIES_CUSTOMER_CREATED", columnList = "CUSTOMER_ID, CREATION_DATETIME"),
+        @Index(name = "IDX_AUDIT_ENTRIES_ACTION_STATUS_CREATED", columnList = "ACTION, STATUS, CREATION_DATETIME"),
+        @Index(name = "IDX_AUDIT_ENTRIES_BUCKET", columnList = "BUCKET")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,20 +33,42 @@ import java.time.LocalDateTime;
 public class AuditEntry {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_entries_seq")
+    @SequenceGenerator(name = "audit_entries_seq", sequenceName = "AUDIT_ENTRIES_SEQ", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false)
+    @Column(name = "ACTION", nullable = false)
     private String action;
 
+    @Column(name = "CUSTOMER_ID")
     private Long customerId;
 
     @Lob
     private String request;
 
-    @Column(nullable = false)
+    @Lob
+    @Column(name = "REQUEST_DATA")
+    private byte[] requestData;
+
+    /**
+     * How the request is stored: {@code PLAIN} in {@code request}, {@code DEFLATE} in
+     * {@code requestData}. Rows written before compression existed have no codec and are plain.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "REQUEST_CODEC", length = 16)
+    private PayloadCodec requestCodec;
+
+    @Column(name = "STATUS", nullable = false)
     private String status;
 
-    @Column(nullable = false)
+    @Column(name = "CREATION_DATETIME", nullable = false)
     private LocalDateTime creationDatetime;
+
+    /**
+     * First day of the time bucket the entry was created in. Retention deletes by this column
+     * and time-range filters are narrowed to the buckets they overlap.
+     */
+    @PartitionKey
+    @Column(name = "BUCKET", nullable = false)
+    private LocalDate bucket;
 }
@@ -1,13 +1,17 @@
 package com.example.customermanagement.model;
 
+import com.example.customermanagement.listener.CustomerStatisticsListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,6 +20,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
+@EntityListeners(CustomerStatisticsListener.class)
 @Table(name = "CUSTOMERS")
 @Data
 @NoArgsConstructor
@@ -24,7 +29,8 @@ import java.time.LocalDate;
 public class Customer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customers_seq")
+    @SequenceGenerator(name = "customers_seq", sequenceName = "CUSTOMERS_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -42,4 +48,8 @@ public class Customer {
     @Enumerated(EnumType.STRING)
     @Column(length = 1)
     private Gender gender;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
@@ -0,0 +1,6 @@
+package com.example.customermanagement.model;
+
+public enum PayloadCodec {
+    PLAIN,
+    DEFLATE
+}
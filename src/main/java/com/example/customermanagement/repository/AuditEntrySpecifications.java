@@ -0,0 +1,48 @@
+package com.example.customermanagement.repository;
+
+import com.example.customermanagement.dto.AuditEntryFilter;
+import com.example.customermanagement.model.AuditEntry;
+import com.example.customermanagement.utils.PartitionGranularity;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class AuditEntrySpecifications {
+
+    private AuditEntrySpecifications() {
+    }
+
+    /**
+     * Builds a specification with one predicate per filter value that is set, so the generated
+     * query only constrains the columns the caller asked for and can use the matching index.
+     * The {@code creationDatetime} range includes {@code from} and excludes {@code to}, and is
+     * repeated on the bucket column so only the partitions the range overlaps are read.
+     */
+    public static Specification<AuditEntry> matching(AuditEntryFilter filter, PartitionGranularity granularity) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getCustomerId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("customerId"), filter.getCustomerId()));
+            }
+            if (filter.getAction() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("action"), filter.getAction()));
+            }
+            if (filter.getStatus() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("status"), filter.getStatus()));
+            }
+            if (filter.getFrom() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("bucket"),
+                        granularity.bucketOf(filter.getFrom())));
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("creationDatetime"), filter.getFrom()));
+            }
+            if (filter.getTo() != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("bucket"),
+                        granularity.bucketOf(filter.getTo())));
+                predicates.add(criteriaBuilder.lessThan(root.get("creationDatetime"), filter.getTo()));
+            }
+            return criteriaBuilder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
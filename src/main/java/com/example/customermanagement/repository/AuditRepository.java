@@ -1,9 +1,31 @@
 package com.example.customermanagement.repository;
 
 import com.example.customermanagement.model.AuditEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
-public interface AuditRepository extends JpaRepository<AuditEntry, Long> {
+public interface AuditRepository extends JpaRepository<AuditEntry, Long>, JpaSpecificationExecutor<AuditEntry>,
+        AuditRepositoryCustom {
+
+    Slice<AuditEntry> findAllBy(Pageable pageable);
+
+    List<AuditEntry> findByIdGreaterThanAndStatusAndActionInOrderByIdAsc(Long id, String status,
+                                                                          Collection<String> actions, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM AuditEntry a WHERE a.bucket < :cutoff AND a.creationDatetime < :expiry")
+    int deleteExpired(@Param("cutoff") LocalDate cutoff, @Param("expiry") LocalDateTime expiry);
 }
@@ -0,0 +1,16 @@
+package com.example.customermanagement.repository;
+
+import com.example.customermanagement.model.AuditEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface AuditRepositoryCustom {
+
+    /**
+     * Returns the audit entries matching the specification as a slice. Unlike
+     * {@code findAll(Specification, Pageable)} no count query is run; one extra row is
+     * fetched to tell whether a next slice exists.
+     */
+    Slice<AuditEntry> findAllBy(Specification<AuditEntry> specification, Pageable pageable);
+}
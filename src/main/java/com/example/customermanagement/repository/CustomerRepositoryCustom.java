@@ -0,0 +1,37 @@
+package com.example.customermanagement.repository;
+
+import com.example.customermanagement.model.Customer;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface CustomerRepositoryCustom {
+
+    /**
+     * Streams all customers ordered by id from a single read-only query. Each customer is
+     * detached once it has been handed out, so the persistence context stays empty however
+     * many rows are read. The stream must be consumed inside a transaction and closed.
+     */
+    Stream<Customer> streamAll(int fetchSize);
+
+    /**
+     * Selects only the given attributes of a slice of customers. Each tuple element is
+     * aliased with its attribute name. No count query is run.
+     */
+    Slice<Tuple> findFields(List<String> fields, Pageable pageable);
+
+    Optional<Tuple> findFieldsById(Long id, List<String> fields);
+
+    /**
+     * Sets the given attributes of one customer and increments its version with a single
+     * UPDATE statement, without loading the customer first. When {@code expectedVersion} is
+     * set the row is only updated if it is still at that version. Returns the number of rows
+     * updated, so {@code 0} means the customer is missing or has another version.
+     */
+    int updateFields(Long id, Map<String, Object> values, Long expectedVersion);
+}
@@ -0,0 +1,91 @@
+package com.example.customermanagement.repository;
+
+import com.example.customermanagement.model.Customer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class CustomerRepositoryImpl implements CustomerRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Customer> streamAll(int fetchSize) {
+        return entityManager.createQuery("SELECT c FROM Customer c ORDER BY c.id", Customer.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(this::detach);
+    }
+
+    @Override
+    public Slice<Tuple> findFields(List<String> fields, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Customer> root = query.from(Customer.class);
+        query.multiselect(selections(root, fields))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        List<Tuple> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    @Override
+    public Optional<Tuple> findFieldsById(Long id, List<String> fields) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Customer> root = query.from(Customer.class);
+        query.multiselect(selections(root, fields))
+                .where(criteriaBuilder.equal(root.get("id"), id));
+        return entityManager.createQuery(query).getResultStream().findFirst();
+    }
+
+    @Override
+    public int updateFields(Long id, Map<String, Object> values, Long expectedVersion) {
+        StringBuilder jpql = new StringBuilder("UPDATE Customer c SET ");
+        values.keySet().forEach(field -> jpql.append("c.").append(field).append(" = :").append(field).append(", "));
+        jpql.append("c.version = c.version + 1 WHERE c.id = :id");
+        if (expectedVersion != null) {
+            jpql.append(" AND c.version = :expectedVersion");
+        }
+
+        Query query = entityManager.createQuery(jpql.toString());
+        values.forEach(query::setParameter);
+        query.setParameter("id", id);
+        if (expectedVersion != null) {
+            query.setParameter("expectedVersion", expectedVersion);
+        }
+        return query.executeUpdate();
+    }
+
+    private static List<Selection<?>> selections(Root<Customer> root, List<String> fields) {
+        return fields.stream()
+                .<Selection<?>>map(field -> root.get(field).alias(field))
+                .toList();
+    }
+
+    private Customer detach(Customer customer) {
+        entityManager.detach(customer);
+        return customer;
+    }
+}
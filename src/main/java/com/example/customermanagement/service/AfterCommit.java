@@ -0,0 +1,41 @@
+package com.example.customermanagement.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers in-memory bookkeeping until the surrounding transaction commits, so a rollback never
+ * leaves state derived from uncommitted rows. Without an active transaction the action runs
+ * immediately. The data is already committed when the action runs, so a failing action is
+ * logged rather than turned into an error for the caller.
+ */
+final class AfterCommit {
+
+    private static final Logger logger = LoggerFactory.getLogger(AfterCommit.class);
+
+    private AfterCommit() {
+    }
+
+    static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runLogged(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runLogged(action);
+            }
+        });
+    }
+
+    private static void runLogged(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            logger.error("Failed to update in-memory state after commit: {}", e.getMessage(), e);
+        }
+    }
+}
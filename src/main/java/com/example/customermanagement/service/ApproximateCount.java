@@ -0,0 +1,37 @@
+package com.example.customermanagement.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Row count of a table kept in memory so listings can report a total without a COUNT query.
+ * The value is loaded once on first use, adjusted after each committed insert or delete and
+ * resynchronized whenever an exact count is computed anyway.
+ */
+final class ApproximateCount {
+
+    private static final long UNKNOWN = -1;
+
+    private final AtomicLong value = new AtomicLong(UNKNOWN);
+
+    long get(LongSupplier exactCount) {
+        long current = value.get();
+        if (current != UNKNOWN) {
+            return current;
+        }
+        value.compareAndSet(UNKNOWN, exactCount.getAsLong());
+        return value.get();
+    }
+
+    void set(long exactCount) {
+        value.set(exactCount);
+    }
+
+    void addAfterCommit(long delta) {
+        AfterCommit.run(() -> add(delta));
+    }
+
+    private void add(long delta) {
+        value.getAndUpdate(current -> current == UNKNOWN ? UNKNOWN : Math.max(0, current + delta));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.config.AuditPartitionProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Enforces the audit retention period with one set-based {@code DELETE} per run. H2 has no
+ * table partitioning, so this deletes rows; the predicate on the indexed bucket column limits
+ * it to buckets that start before the current bucket of the retention boundary.
+ *
+ * <p>The cutoff is computed with the configured granularity, which says nothing about the
+ * buckets already stored. After a switch from weekly to daily, an older weekly bucket can
+ * start before the cutoff while still holding entries inside the retention period, so only
+ * entries created before the boundary are deleted. After a switch from daily to weekly,
+ * expired daily buckets are deleted up to a week late.
+ */
+@Service
+public class AuditRetentionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditRetentionService.class);
+
+    private final AuditService auditService;
+    private final AuditPartitionProperties properties;
+    private final Clock clock;
+
+    @Autowired
+    public AuditRetentionService(AuditService auditService, AuditPartitionProperties properties) {
+        this(auditService, properties, Clock.systemDefaultZone());
+    }
+
+    AuditRetentionService(AuditService auditService, AuditPartitionProperties properties, Clock clock) {
+        this.auditService = auditService;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${audit.partition.cleanup-cron:0 15 3 * * *}")
+    public void deleteExpiredEntries() {
+        LocalDateTime expiry = LocalDateTime.now(clock).minus(properties.getRetention());
+        LocalDate cutoff = properties.getGranularity().bucketOf(expiry);
+        int deleted = auditService.deleteExpiredEntries(cutoff, expiry);
+        logger.info("Deleted {} audit entries in buckets before {}", deleted, cutoff);
+    }
+}
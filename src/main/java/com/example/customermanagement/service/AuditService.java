@@ -1,20 +1,41 @@
 package com.example.customermanagement.service;
 
+import com.example.customermanagement.config.AuditCompressionProperties;
+import com.example.customermanagement.config.AuditPartitionProperties;
 import com.example.customermanagement.dto.AuditEntryDTO;
+import com.example.customermanagement.dto.AuditEntryFilter;
+import com.example.customermanagement.dto.CursorPage;
 import com.example.customermanagement.mapper.AuditMapper;
 import com.example.customermanagement.model.AuditEntry;
+import com.example.customermanagement.repository.AuditEntrySpecifications;
 import com.example.customermanagement.repository.AuditRepository;
+import com.example.customermanagement.utils.CountMode;
+import com.example.customermanagement.utils.CursorUtils;
+import com.example.customermanagement.utils.PartitionGranularity;
+import com.example.customermanagement.utils.PayloadCompression;
 import com.example.customermanagement.utils.SortUtils;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Service
+@Timed("audit.service")
 public class AuditService {
 
     private static final List<String> ALLOWED_SORT_FIELDS = List.of(
@@ -24,32 +45,124 @@ public class AuditService {
             "status",
             "creationDatetime"
     );
+    private static final List<String> CURSOR_SORT_FIELDS = List.of(
+            "id",
+            "action",
+            "status",
+            "creationDatetime"
+    );
 
     private final AuditRepository auditRepository;
     private final AuditMapper auditMapper;
+    private final PartitionGranularity granularity;
+    private final long compressionThreshold;
+    private final ApproximateCount auditEntryCount = new ApproximateCount();
 
     @Autowired
-    public AuditService(AuditRepository auditRepository, AuditMapper auditMapper) {
+    public AuditService(AuditRepository auditRepository, AuditMapper auditMapper,
+                        AuditPartitionProperties partitionProperties,
+                        AuditCompressionProperties compressionProperties) {
         this.auditRepository = auditRepository;
         this.auditMapper = auditMapper;
+        this.granularity = partitionProperties.getGranularity();
+        this.compressionThreshold = compressionProperties.getThreshold().toBytes();
+    }
+
+    /**
+     * Stores the entries in a transaction of their own, so they are committed when this returns
+     * even if the caller is inside a transaction.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveAuditEntries(List<AuditEntry> auditEntries) {
+        auditEntries.forEach(this::prepareForStorage);
+        auditRepository.saveAll(auditEntries);
+        auditEntryCount.addAfterCommit(auditEntries.size());
     }
 
+    /**
+     * Deletes the audit entries of every bucket starting before {@code cutoff} that were
+     * created before {@code expiry}, with a single statement.
+     */
     @Transactional
-    public void createAuditEntry(String action, Long customerId, String request, String status) {
-        AuditEntry auditEntry = AuditEntry.builder()
-                .action(action)
-                .customerId(customerId)
-                .request(request)
-                .status(status)
-                .creationDatetime(LocalDateTime.now())
-                .build();
-        auditRepository.save(auditEntry);
+    public int deleteExpiredEntries(LocalDate cutoff, LocalDateTime expiry) {
+        int deleted = auditRepository.deleteExpired(cutoff, expiry);
+        auditEntryCount.addAfterCommit(-deleted);
+        return deleted;
     }
 
     @Transactional(readOnly = true)
     public Page<AuditEntryDTO> getAuditEntries(int page, int size, String sortBy, String sortDir) {
         Pageable pageable = SortUtils.createPageable(page, size, sortBy, sortDir, ALLOWED_SORT_FIELDS);
         Page<AuditEntry> auditEntries = auditRepository.findAll(pageable);
+        auditEntryCount.set(auditEntries.getTotalElements());
         return auditEntries.map(auditMapper::toDTO);
     }
+
+    @Transactional(readOnly = true)
+    public Slice<AuditEntryDTO> getAuditEntries(int page, int size, String sortBy, String sortDir, String count) {
+        CountMode countMode = CountMode.fromString(count);
+        if (countMode == CountMode.EXACT) {
+            return getAuditEntries(page, size, sortBy, sortDir);
+        }
+
+        Pageable pageable = SortUtils.createPageable(page, size, sortBy, sortDir, ALLOWED_SORT_FIELDS);
+        Slice<AuditEntryDTO> auditEntries = auditRepository.findAllBy(pageable).map(auditMapper::toDTO);
+        if (countMode == CountMode.NONE) {
+            return auditEntries;
+        }
+        return new PageImpl<>(auditEntries.getContent(), pageable, auditEntryCount.get(auditRepository::count));
+    }
+
+    /**
+     * Filtered variant of {@link #getAuditEntries(int, int, String, String, String)}. The cached
+     * total only covers the whole table, so a filtered request in {@code cached} mode is counted
+     * exactly.
+     */
+    @Transactional(readOnly = true)
+    public Slice<AuditEntryDTO> getAuditEntries(AuditEntryFilter filter, int page, int size, String sortBy,
+                                                String sortDir, String count) {
+        if (filter.isEmpty()) {
+            return getAuditEntries(page, size, sortBy, sortDir, count);
+        }
+
+        CountMode countMode = CountMode.fromString(count);
+        Pageable pageable = SortUtils.createPageable(page, size, sortBy, sortDir, ALLOWED_SORT_FIELDS);
+        Specification<AuditEntry> specification = AuditEntrySpecifications.matching(filter, granularity);
+        if (countMode == CountMode.NONE) {
+            return auditRepository.findAllBy(specification, pageable).map(auditMapper::toDTO);
+        }
+        return auditRepository.findAll(specification, pageable).map(auditMapper::toDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<AuditEntryDTO> getAuditEntriesByCursor(AuditEntryFilter filter, String cursor, int size,
+                                                             String sortBy, String sortDir) {
+        Sort sort = SortUtils.createSort(sortBy, sortDir, CURSOR_SORT_FIELDS);
+        Limit limit = CursorUtils.createLimit(size);
+        KeysetScrollPosition position = CursorUtils.decode(cursor, sort, AuditEntry.class);
+        Window<AuditEntry> auditEntries = auditRepository.findBy(AuditEntrySpecifications.matching(filter, granularity),
+                query -> query.sortBy(sort).limit(limit.max()).scroll(position));
+        return CursorUtils.toCursorPage(auditEntries, sort, auditMapper::toDTO);
+    }
+
+    /**
+     * Returns up to {@code limit} audit entries with the given status, one of the given actions
+     * and an id above {@code afterId}, in id order. Reads from the writer rather than a replica,
+     * so every entry already published to the change feed is included.
+     */
+    @Transactional
+    public List<AuditEntryDTO> getEntriesAfter(long afterId, String status, Collection<String> actions, int limit) {
+        return auditRepository.findByIdGreaterThanAndStatusAndActionInOrderByIdAsc(afterId, status, actions,
+                        Limit.of(limit))
+                .stream()
+                .map(auditMapper::toDTO)
+                .toList();
+    }
+
+    private void prepareForStorage(AuditEntry auditEntry) {
+        if (auditEntry.getBucket() == null && auditEntry.getCreationDatetime() != null) {
+            auditEntry.setBucket(granularity.bucketOf(auditEntry.getCreationDatetime()));
+        }
+        PayloadCompression.compressRequest(auditEntry, compressionThreshold);
+    }
 }
@@ -0,0 +1,269 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.config.AuditWriterProperties;
+import com.example.customermanagement.config.AuditWriterProperties.OverflowPolicy;
+import com.example.customermanagement.model.AuditEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Takes audit persistence off the request thread: entries are queued by the interceptor
+ * and written in batches by a single background thread. The queue is flushed when the
+ * application context stops, after the web server has stopped accepting requests. Stored
+ * entries are handed to the {@link CustomerChangeFeed}.
+ *
+ * <p>Entries are also written from request threads when writing is synchronous, when the
+ * queue is full under the {@code SYNC} policy and while the writer is not running. Every write
+ * holds the same lock from id allocation to commit and publication, so audit ids are committed
+ * and published in increasing order, which lets change feed subscribers resume by id. A dropped
+ * entry would be a change event lost for good, so the {@code DROP} policy is refused while the
+ * change feed is enabled.
+ */
+@Component
+public class AuditWriter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditWriter.class);
+    private static final String WRITER_THREAD_NAME = "audit-writer";
+
+    private final AuditService auditService;
+    private final CustomerChangeFeed changeFeed;
+    private final AuditWriterProperties properties;
+    private final ThreadFactory threadFactory;
+    private final BlockingQueue<AuditEntry> queue;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Timer persistTimer;
+    private final Counter persistFailures;
+    private final Lock persistLock = new ReentrantLock();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    @Autowired
+    public AuditWriter(AuditService auditService, CustomerChangeFeed changeFeed, AuditWriterProperties properties,
+                       MeterRegistry meterRegistry, Environment environment) {
+        this(auditService, changeFeed, properties, meterRegistry, writerThreadFactory(environment));
+    }
+
+    AuditWriter(AuditService auditService, CustomerChangeFeed changeFeed, AuditWriterProperties properties,
+                MeterRegistry meterRegistry, ThreadFactory threadFactory) {
+        if (changeFeed.isEnabled() && properties.getOverflowPolicy() == OverflowPolicy.DROP) {
+            throw new IllegalStateException("audit.writer.overflow-policy=drop would lose customer change events; " +
+                    "use block or sync, or set customer.changes.enabled=false");
+        }
+        this.auditService = auditService;
+        this.changeFeed = changeFeed;
+        this.properties = properties;
+        this.threadFactory = threadFactory;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.persistTimer = Timer.builder("audit.persist")
+                .description("Time to persist a batch of audit entries")
+                .register(meterRegistry);
+        this.persistFailures = Counter.builder("audit.persist.failures")
+                .description("Audit entries that could not be persisted")
+                .register(meterRegistry);
+        Gauge.builder("audit.queue.size", queue, BlockingQueue::size)
+                .description("Audit entries waiting to be persisted")
+                .register(meterRegistry);
+        FunctionCounter.builder("audit.dropped", droppedCount, AtomicLong::get)
+                .description("Audit entries dropped because the queue was full")
+                .register(meterRegistry);
+    }
+
+    public void submit(String action, Long customerId, String request, String status) {
+        AuditEntry auditEntry = AuditEntry.builder()
+                .action(action)
+                .customerId(customerId)
+                .request(request)
+                .status(status)
+                .creationDatetime(LocalDateTime.now())
+                .build();
+
+        if (!properties.isAsync() || !running) {
+            persist(List.of(auditEntry));
+            return;
+        }
+
+        boolean enqueued = switch (properties.getOverflowPolicy()) {
+            case BLOCK -> enqueueBlocking(auditEntry);
+            case DROP -> {
+                if (!queue.offer(auditEntry)) {
+                    long dropped = droppedCount.incrementAndGet();
+                    logger.warn("Audit queue is full, dropped audit entry for action {} ({} dropped so far)",
+                            action, dropped);
+                    yield false;
+                }
+                yield true;
+            }
+            case SYNC -> {
+                if (!queue.offer(auditEntry)) {
+                    persist(List.of(auditEntry));
+                    yield false;
+                }
+                yield true;
+            }
+        };
+        // The writer may have stopped and flushed the queue between the running check and the
+        // offer; the entry would then never be written, so flush it from this thread.
+        if (enqueued && !running) {
+            flushRemaining();
+        }
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isAsync()) {
+            return;
+        }
+        running = true;
+        writerThread = threadFactory.newThread(this::drainLoop);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join(properties.getShutdownTimeout().toMillis());
+            if (writerThread.isAlive()) {
+                writerThread.interrupt();
+                writerThread.join(properties.getShutdownTimeout().toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushRemaining();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    private static ThreadFactory writerThreadFactory(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Thread.ofVirtual().name(WRITER_THREAD_NAME).factory();
+        }
+        return runnable -> {
+            Thread thread = new Thread(runnable, WRITER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Waits for room in the queue, persisting on the calling thread if the writer stops or the
+     * wait is interrupted. Returns whether the entry was queued.
+     */
+    private boolean enqueueBlocking(AuditEntry auditEntry) {
+        try {
+            while (!queue.offer(auditEntry, properties.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS)) {
+                if (!running) {
+                    persist(List.of(auditEntry));
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            persist(List.of(auditEntry));
+            return false;
+        }
+    }
+
+    private void drainLoop() {
+        int batchSize = properties.getBatchSize();
+        long pollMillis = properties.getFlushInterval().toMillis();
+        List<AuditEntry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditEntry first = queue.poll(pollMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                persist(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushRemaining() {
+        while (!queue.isEmpty()) {
+            List<AuditEntry> batch = new ArrayList<>(properties.getBatchSize());
+            queue.drainTo(batch, properties.getBatchSize());
+            persist(batch);
+        }
+    }
+
+    private void persist(List<AuditEntry> auditEntries) {
+        persistLock.lock();
+        try {
+            persistInOrder(auditEntries);
+        } finally {
+            persistLock.unlock();
+        }
+    }
+
+    private void persistInOrder(List<AuditEntry> auditEntries) {
+        try {
+            persistTimer.record(() -> auditService.saveAuditEntries(auditEntries));
+        } catch (RuntimeException e) {
+            if (auditEntries.size() == 1) {
+                persistFailures.increment();
+                logger.error("Failed to persist audit entry: {}", e.getMessage(), e);
+                return;
+            }
+            logger.warn("Failed to persist batch of {} audit entries, retrying one by one: {}",
+                    auditEntries.size(), e.getMessage());
+            for (AuditEntry auditEntry : auditEntries) {
+                auditEntry.setId(null);
+                persistInOrder(List.of(auditEntry));
+            }
+            return;
+        }
+        changeFeed.publish(auditEntries);
+    }
+}
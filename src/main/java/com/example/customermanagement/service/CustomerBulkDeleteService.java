@@ -0,0 +1,78 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.config.BulkDeleteProperties;
+import com.example.customermanagement.dto.BulkDeleteResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Deletes customers by id in chunks. Each chunk is one transaction with a single set-based
+ * {@code DELETE} and a single audit entry listing the chunk's ids. Ids that do not exist
+ * are reported back instead of failing the request.
+ */
+@Service
+public class CustomerBulkDeleteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerBulkDeleteService.class);
+
+    private static final String BULK_DELETE_ACTION = "BULK_DELETE";
+
+    private final CustomerService customerService;
+    private final AuditWriter auditWriter;
+    private final BulkDeleteProperties properties;
+
+    @Autowired
+    public CustomerBulkDeleteService(CustomerService customerService,
+                                     AuditWriter auditWriter,
+                                     BulkDeleteProperties properties) {
+        this.customerService = customerService;
+        this.auditWriter = auditWriter;
+        this.properties = properties;
+    }
+
+    public BulkDeleteResult deleteCustomers(List<Long> ids) {
+        List<Long> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        long deleted = 0;
+        List<Long> missingIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += properties.getChunkSize()) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + properties.getChunkSize(), distinctIds.size()));
+            try {
+                Set<Long> deletedIds = new HashSet<>(customerService.deleteCustomers(chunk));
+                deleted += deletedIds.size();
+                chunk.stream().filter(id -> !deletedIds.contains(id)).forEach(missingIds::add);
+                auditWriter.submit(BULK_DELETE_ACTION, null, auditRequest(chunk, deletedIds.size()), "SUCCESS");
+            } catch (RuntimeException e) {
+                logger.warn("Failed to delete customers {}..{}: {}", chunk.get(0), chunk.get(chunk.size() - 1),
+                        e.getMessage(), e);
+                failedIds.addAll(chunk);
+                auditWriter.submit(BULK_DELETE_ACTION, null, auditRequest(chunk, 0), "FAILED");
+            }
+        }
+
+        return BulkDeleteResult.builder()
+                .received(ids.size())
+                .deleted(deleted)
+                .missingIds(missingIds)
+                .failedIds(failedIds)
+                .build();
+    }
+
+    private static String auditRequest(List<Long> chunk, int deleted) {
+        String ids = chunk.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return "{\"ids\":[" + ids + "],\"deleted\":" + deleted + "}";
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.config.CustomerChangeFeedProperties;
+import com.example.customermanagement.dto.AuditEntryDTO;
+import com.example.customermanagement.mapper.AuditMapper;
+import com.example.customermanagement.model.AuditEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams committed customer changes to Server-Sent Events subscribers. A change is a
+ * successful {@code CREATE}, {@code UPDATE}, {@code DELETE}, {@code BULK_CREATE} or
+ * {@code BULK_DELETE} audit entry, and its audit id is the event id. {@link AuditWriter}
+ * stores and publishes entries one write at a time, so ids are committed and published in
+ * increasing order.
+ *
+ * <p>A subscriber resuming from a {@code Last-Event-ID} is registered for live events first
+ * and then sent the backlog from the audit table. Because ids follow commit order, an entry
+ * missing from the backlog has a higher id than any in it and arrives as a live event; live
+ * events already covered by the backlog are skipped. This holds while the audit writer of one
+ * instance is the only writer of the audit table. Each subscriber has its own bounded
+ * buffer drained by its own virtual thread, so a slow client never holds up the audit writer.
+ * A subscriber whose buffer overflows is sent what it has buffered and then disconnected, and
+ * catches up from the audit table when it reconnects with its last event id.
+ *
+ * <p>Every change must reach the audit table for this to hold, so {@link AuditWriter} refuses
+ * the {@code DROP} overflow policy while the feed is enabled.
+ */
+@Service
+public class CustomerChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerChangeFeed.class);
+
+    static final Set<String> CHANGE_ACTIONS = Set.of("CREATE", "UPDATE", "DELETE", "BULK_CREATE", "BULK_DELETE");
+    private static final String SUCCESS_STATUS = "SUCCESS";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final AuditService auditService;
+    private final AuditMapper auditMapper;
+    private final CustomerChangeFeedProperties properties;
+    private final ThreadFactory senderThreadFactory;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public CustomerChangeFeed(AuditService auditService, AuditMapper auditMapper,
+                              CustomerChangeFeedProperties properties) {
+        this(auditService, auditMapper, properties, Thread.ofVirtual().name("customer-changes-", 0).factory());
+    }
+
+    CustomerChangeFeed(AuditService auditService, AuditMapper auditMapper, CustomerChangeFeedProperties properties,
+                       ThreadFactory senderThreadFactory) {
+        this.auditService = auditService;
+        this.auditMapper = auditMapper;
+        this.properties = properties;
+        this.senderThreadFactory = senderThreadFactory;
+    }
+
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscription subscription = open(lastEventId, new SseChangeSink(emitter));
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        return emitter;
+    }
+
+    /**
+     * Hands stored audit entries to every subscriber. Only offers to the subscribers' buffers,
+     * so it never waits for a client.
+     */
+    public void publish(List<AuditEntry> auditEntries) {
+        if (!isEnabled() || subscriptions.isEmpty()) {
+            return;
+        }
+        List<AuditEntryDTO> changes = auditEntries.stream()
+                .filter(CustomerChangeFeed::isChange)
+                .map(auditMapper::toDTO)
+                .toList();
+        if (changes.isEmpty()) {
+            return;
+        }
+        for (Subscription subscription : subscriptions) {
+            if (!subscription.offer(changes)) {
+                subscriptions.remove(subscription);
+                logger.info("Customer change subscriber fell more than {} events behind and will be disconnected",
+                        properties.getBufferSize());
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    Subscription open(Long lastEventId, ChangeSink sink) {
+        Subscription subscription = new Subscription(sink, properties.getBufferSize());
+        subscriptions.add(subscription);
+        senderThreadFactory.newThread(() -> stream(subscription, lastEventId)).start();
+        return subscription;
+    }
+
+    private void stream(Subscription subscription, Long lastEventId) {
+        try {
+            long backlogEnd = lastEventId != null ? sendBacklog(subscription, lastEventId) : Long.MIN_VALUE;
+            long heartbeatMillis = properties.getHeartbeatInterval().toMillis();
+            while (subscription.isOpen()) {
+                AuditEntryDTO change = subscription.poll(heartbeatMillis);
+                if (change != null) {
+                    if (change.getId() > backlogEnd) {
+                        subscription.sink.send(change);
+                    }
+                } else if (subscription.isOverflowed()) {
+                    break;
+                } else {
+                    subscription.sink.heartbeat();
+                }
+            }
+            subscription.sink.complete();
+        } catch (IOException e) {
+            logger.debug("Customer change subscriber disconnected: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            logger.warn("Customer change stream failed: {}", e.getMessage(), e);
+            subscription.sink.complete();
+        } finally {
+            subscription.close();
+            subscriptions.remove(subscription);
+        }
+    }
+
+    /**
+     * Sends every change after {@code lastEventId} from the audit table, page by page, and
+     * returns the id of the last one sent.
+     */
+    private long sendBacklog(Subscription subscription, long lastEventId) throws IOException {
+        int pageSize = properties.getBacklogPageSize();
+        long lastSentId = lastEventId;
+        List<AuditEntryDTO> page;
+        do {
+            page = auditService.getEntriesAfter(lastSentId, SUCCESS_STATUS, CHANGE_ACTIONS, pageSize);
+            for (AuditEntryDTO change : page) {
+                if (!subscription.isOpen()) {
+                    return lastSentId;
+                }
+                subscription.sink.send(change);
+                lastSentId = change.getId();
+            }
+        } while (page.size() == pageSize);
+        return lastSentId;
+    }
+
+    private static boolean isChange(AuditEntry auditEntry) {
+        return SUCCESS_STATUS.equals(auditEntry.getStatus()) && CHANGE_ACTIONS.contains(auditEntry.getAction());
+    }
+
+    interface ChangeSink {
+
+        void send(AuditEntryDTO change) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        void complete();
+    }
+
+    static final class Subscription {
+
+        private final ChangeSink sink;
+        private final BlockingQueue<AuditEntryDTO> buffer;
+        private volatile boolean open = true;
+        private volatile boolean overflowed;
+
+        private Subscription(ChangeSink sink, int bufferSize) {
+            this.sink = sink;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean offer(List<AuditEntryDTO> changes) {
+            for (AuditEntryDTO change : changes) {
+                if (!buffer.offer(change)) {
+                    overflowed = true;
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private AuditEntryDTO poll(long timeoutMillis) throws InterruptedException {
+            if (overflowed) {
+                return buffer.poll();
+            }
+            return buffer.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+
+        boolean isOpen() {
+            return open;
+        }
+
+        boolean isOverflowed() {
+            return overflowed;
+        }
+
+        void close() {
+            open = false;
+        }
+    }
+
+    private record SseChangeSink(SseEmitter emitter) implements ChangeSink {
+
+        @Override
+        public void send(AuditEntryDTO change) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(change.getId()))
+                    .name(change.getAction())
+                    .data(change, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+        }
+
+        @Override
+        public void complete() {
+            emitter.complete();
+        }
+    }
+}
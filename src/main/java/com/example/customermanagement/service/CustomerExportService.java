@@ -0,0 +1,122 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.config.ExportProperties;
+import com.example.customermanagement.mapper.CustomerMapper;
+import com.example.customermanagement.model.Customer;
+import com.example.customermanagement.repository.CustomerRepository;
+import com.example.customermanagement.utils.ExportFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes every customer to an output stream as NDJSON, CSV or a CBOR sequence (RFC 8742, one
+ * CBOR item per customer, back to back). Rows come from a single streaming query, which reads
+ * one consistent snapshot of the table, and are written as they arrive, so memory use does not
+ * depend on the number of customers.
+ */
+@Service
+public class CustomerExportService {
+
+    private static final String CSV_HEADER = "id,name,age,dateOfBirth,address,gender";
+
+    private final CustomerRepository customerRepository;
+    private final CustomerMapper customerMapper;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final ExportProperties properties;
+
+    @Autowired
+    public CustomerExportService(CustomerRepository customerRepository,
+                                 CustomerMapper customerMapper,
+                                 ObjectMapper objectMapper,
+                                 ExportProperties properties) {
+        this.customerRepository = customerRepository;
+        this.customerMapper = customerMapper;
+        this.objectMapper = objectMapper;
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.properties = properties;
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCustomers(ExportFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<Customer> customers = customerRepository.streamAll(properties.getFetchSize())) {
+            switch (format) {
+                case NDJSON -> writeNdjson(customers.iterator(), outputStream);
+                case CSV -> writeCsv(customers.iterator(), outputStream);
+                case CBOR -> writeCborSequence(customers.iterator(), outputStream);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<Customer> customers, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            while (customers.hasNext()) {
+                generator.writeObject(customerMapper.toDTO(customers.next()));
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private void writeCborSequence(Iterator<Customer> customers, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = cborMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (customers.hasNext()) {
+                generator.writeObject(customerMapper.toDTO(customers.next()));
+            }
+        }
+    }
+
+    private void writeCsv(Iterator<Customer> customers, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (customers.hasNext()) {
+            Customer customer = customers.next();
+            writer.write(String.valueOf(customer.getId()));
+            writer.write(',');
+            writeCsvField(writer, customer.getName());
+            writer.write(',');
+            writer.write(String.valueOf(customer.getAge()));
+            writer.write(',');
+            writer.write(String.valueOf(customer.getDateOfBirth()));
+            writer.write(',');
+            writeCsvField(writer, customer.getAddress());
+            writer.write(',');
+            if (customer.getGender() != null) {
+                writer.write(customer.getGender().name());
+            }
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.config.BulkImportProperties;
+import com.example.customermanagement.dto.BulkImportError;
+import com.example.customermanagement.dto.BulkImportResult;
+import com.example.customermanagement.dto.CustomerDTO;
+import com.example.customermanagement.validation.CustomerDTOValidator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Imports customers from a JSON array or NDJSON stream without materializing the whole payload.
+ * Records are bound one at a time, validated, and written in chunks, each chunk in its own
+ * transaction with a single audit entry. Invalid records are reported and skipped. Records are
+ * validated with {@link CustomerDTOValidator} rather than the reflective bean validator, with
+ * one date of birth cut-off for the whole import.
+ */
+@Service
+public class CustomerImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerImportService.class);
+
+    private static final String BULK_CREATE_ACTION = "BULK_CREATE";
+    private static final String REQUEST_ERROR_FIELD = "request";
+    private static final String MALFORMED_RECORD_MESSAGE = "Malformed customer record";
+    private static final String MALFORMED_JSON_MESSAGE = "Malformed JSON, import stopped at this record";
+    private static final String PERSIST_FAILED_MESSAGE = "Failed to persist customer";
+
+    private final CustomerService customerService;
+    private final AuditWriter auditWriter;
+    private final ObjectReader customerReader;
+    private final BulkImportProperties properties;
+
+    @Autowired
+    public CustomerImportService(CustomerService customerService,
+                                 AuditWriter auditWriter,
+                                 ObjectMapper objectMapper,
+                                 BulkImportProperties properties) {
+        this.customerService = customerService;
+        this.auditWriter = auditWriter;
+        this.customerReader = objectMapper.readerFor(CustomerDTO.class);
+        this.properties = properties;
+    }
+
+    public BulkImportResult importCustomers(InputStream inputStream) throws IOException {
+        ImportProgress progress = new ImportProgress(properties.getMaxReportedErrors());
+        Chunk chunk = new Chunk(properties.getChunkSize());
+        CustomerDTOValidator validator = new CustomerDTOValidator(LocalDate.now());
+
+        try (MappingIterator<CustomerDTO> records = customerReader.readValues(inputStream)) {
+            while (true) {
+                long index = progress.received;
+                CustomerDTO customerDTO;
+                try {
+                    if (!records.hasNextValue()) {
+                        break;
+                    }
+                    progress.received++;
+                    customerDTO = records.nextValue();
+                } catch (JsonParseException e) {
+                    progress.received = index + 1;
+                    progress.reject(index, Map.of(REQUEST_ERROR_FIELD, MALFORMED_JSON_MESSAGE));
+                    break;
+                } catch (JsonMappingException e) {
+                    progress.reject(index, Map.of(REQUEST_ERROR_FIELD, MALFORMED_RECORD_MESSAGE));
+                    continue;
+                }
+
+                Map<String, String> violations = validate(validator, customerDTO);
+                if (!violations.isEmpty()) {
+                    progress.reject(index, violations);
+                    continue;
+                }
+
+                chunk.add(index, customerDTO);
+                if (chunk.isFull()) {
+                    writeChunk(chunk, progress);
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, progress);
+        }
+
+        return BulkImportResult.builder()
+                .received(progress.received)
+                .imported(progress.imported)
+                .failed(progress.failed)
+                .errors(progress.errors)
+                .build();
+    }
+
+    private static Map<String, String> validate(CustomerDTOValidator validator, CustomerDTO customerDTO) {
+        if (customerDTO == null) {
+            return Map.of(REQUEST_ERROR_FIELD, MALFORMED_RECORD_MESSAGE);
+        }
+        return validator.validate(customerDTO);
+    }
+
+    private void writeChunk(Chunk chunk, ImportProgress progress) {
+        long firstIndex = chunk.indexes.get(0);
+        long lastIndex = chunk.indexes.get(chunk.indexes.size() - 1);
+        List<Long> createdIds = List.of();
+        String status;
+        try {
+            createdIds = customerService.createCustomers(chunk.customers);
+            progress.imported += chunk.customers.size();
+            status = "SUCCESS";
+        } catch (RuntimeException e) {
+            logger.warn("Failed to import customers {}..{}: {}", firstIndex, lastIndex, e.getMessage(), e);
+            chunk.indexes.forEach(index -> progress.reject(index, Map.of(REQUEST_ERROR_FIELD, PERSIST_FAILED_MESSAGE)));
+            status = "FAILED";
+        }
+        auditWriter.submit(BULK_CREATE_ACTION, null, auditRequest(firstIndex, lastIndex, chunk.customers.size(),
+                createdIds), status);
+        chunk.clear();
+    }
+
+    private static String auditRequest(long firstIndex, long lastIndex, int customers, List<Long> createdIds) {
+        String ids = createdIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return "{\"firstIndex\":" + firstIndex + ",\"lastIndex\":" + lastIndex +
+                ",\"customers\":" + customers + ",\"ids\":[" + ids + "]}";
+    }
+
+    private static final class Chunk {
+        private final int capacity;
+        private final List<Long> indexes;
+        private final List<CustomerDTO> customers;
+
+        private Chunk(int capacity) {
+            this.capacity = capacity;
+            this.indexes = new ArrayList<>(capacity);
+            this.customers = new ArrayList<>(capacity);
+        }
+
+        private void add(long index, CustomerDTO customerDTO) {
+            indexes.add(index);
+            customers.add(customerDTO);
+        }
+
+        private boolean isFull() {
+            return customers.size() >= capacity;
+        }
+
+        private boolean isEmpty() {
+            return customers.isEmpty();
+        }
+
+        private void clear() {
+            indexes.clear();
+            customers.clear();
+        }
+    }
+
+    private static final class ImportProgress {
+        private final int maxReportedErrors;
+        private final List<BulkImportError> errors = new ArrayList<>();
+        private long received;
+        private long imported;
+        private long failed;
+
+        private ImportProgress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void reject(long index, Map<String, String> recordErrors) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new BulkImportError(index, recordErrors));
+            }
+        }
+    }
+}
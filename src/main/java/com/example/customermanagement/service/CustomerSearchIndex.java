@@ -0,0 +1,237 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.model.Customer;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over customer name and address. Both fields are normalized to
+ * lower-case words and indexed by their trigrams, plus the one and two character prefixes of
+ * every word so that very short queries still match word starts. Candidates found through
+ * the index are verified against the normalized text, so results are exact substring (or,
+ * for short queries, word prefix) matches.
+ */
+@Component
+public class CustomerSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final char PREFIX_MARKER = '\u0000';
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int NAME_WEIGHT = 2;
+    private static final int ADDRESS_WEIGHT = 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+
+    public void indexAfterCommit(Customer customer) {
+        AfterCommit.run(() -> index(customer));
+    }
+
+    public void indexAllAfterCommit(List<Customer> customers) {
+        AfterCommit.run(() -> indexAll(customers));
+    }
+
+    public void removeAfterCommit(Long id) {
+        AfterCommit.run(() -> remove(id));
+    }
+
+    public void removeAllAfterCommit(Collection<Long> ids) {
+        AfterCommit.run(() -> removeAll(ids));
+    }
+
+    public void rebuild(Stream<Customer> customers) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            customers.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(Customer customer) {
+        indexAll(List.of(customer));
+    }
+
+    public void indexAll(List<Customer> customers) {
+        lock.writeLock().lock();
+        try {
+            for (Customer customer : customers) {
+                removeDocument(customer.getId());
+                add(customer);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        removeAll(List.of(id));
+    }
+
+    public void removeAll(Collection<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            ids.forEach(this::removeDocument);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of all customers matching the query, best match first. Name matches
+     * rank above address matches, and a match at the start of a field or word ranks above one
+     * inside a word. Ties are ordered by name and id.
+     */
+    public List<Long> search(String query) {
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Set<Long>> postingLists = new ArrayList<>();
+            for (String key : queryKeys(normalizedQuery)) {
+                Set<Long> ids = postings.get(key);
+                if (ids == null) {
+                    return List.of();
+                }
+                postingLists.add(ids);
+            }
+            postingLists.sort(Comparator.comparingInt(Set::size));
+
+            List<Match> matches = new ArrayList<>();
+            for (Long id : postingLists.get(0)) {
+                if (!containedInAll(id, postingLists)) {
+                    continue;
+                }
+                Document document = documents.get(id);
+                int score = NAME_WEIGHT * fieldScore(document.name(), normalizedQuery)
+                        + ADDRESS_WEIGHT * fieldScore(document.address(), normalizedQuery);
+                if (score > 0) {
+                    matches.add(new Match(id, document.name(), score));
+                }
+            }
+            matches.sort(Comparator.comparingInt(Match::score).reversed()
+                    .thenComparing(Match::name)
+                    .thenComparing(Match::id));
+            return matches.stream().map(Match::id).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Customer customer) {
+        Document document = new Document(normalize(customer.getName()), normalize(customer.getAddress()));
+        documents.put(customer.getId(), document);
+        for (String key : documentKeys(document)) {
+            postings.computeIfAbsent(key, k -> new HashSet<>()).add(customer.getId());
+        }
+    }
+
+    private void removeDocument(Long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String key : documentKeys(document)) {
+            Set<Long> ids = postings.get(key);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static boolean containedInAll(Long id, List<Set<Long>> postingLists) {
+        for (int i = 1; i < postingLists.size(); i++) {
+            if (!postingLists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int fieldScore(String text, String query) {
+        if (text.startsWith(query)) {
+            return 3;
+        }
+        if (text.contains(" " + query)) {
+            return 2;
+        }
+        if (query.length() >= GRAM_LENGTH && text.contains(query)) {
+            return 1;
+        }
+        return 0;
+    }
+
+    private static Set<String> documentKeys(Document document) {
+        Set<String> keys = new HashSet<>();
+        addKeys(document.name(), keys);
+        addKeys(document.address(), keys);
+        return keys;
+    }
+
+    private static void addKeys(String text, Set<String> keys) {
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            keys.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        for (String word : text.split(" ")) {
+            for (int length = 1; length < GRAM_LENGTH && length <= word.length(); length++) {
+                keys.add(PREFIX_MARKER + word.substring(0, length));
+            }
+        }
+    }
+
+    private static Set<String> queryKeys(String query) {
+        if (query.length() < GRAM_LENGTH) {
+            return Set.of(PREFIX_MARKER + query);
+        }
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= query.length(); i++) {
+            keys.add(query.substring(i, i + GRAM_LENGTH));
+        }
+        return keys;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String withoutDiacritics = DIACRITICS.matcher(decomposed).replaceAll("");
+        return NON_WORD.matcher(withoutDiacritics.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private record Document(String name, String address) {
+    }
+
+    private record Match(Long id, String name, int score) {
+    }
+}
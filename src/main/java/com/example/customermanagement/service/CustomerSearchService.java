@@ -0,0 +1,95 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.dto.CustomerDTO;
+import com.example.customermanagement.mapper.CustomerMapper;
+import com.example.customermanagement.model.Customer;
+import com.example.customermanagement.repository.CustomerRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Answers customer searches from {@link CustomerSearchIndex}. The index is built from the
+ * database once all beans are created, before the web server accepts requests, and is kept
+ * current by {@link CustomerService} after each committed write.
+ */
+@Service
+public class CustomerSearchService implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerSearchService.class);
+    private static final int REBUILD_FETCH_SIZE = 1000;
+
+    private final CustomerRepository customerRepository;
+    private final CustomerMapper customerMapper;
+    private final CustomerSearchIndex searchIndex;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Autowired
+    public CustomerSearchService(CustomerRepository customerRepository,
+                                 CustomerMapper customerMapper,
+                                 CustomerSearchIndex searchIndex,
+                                 PlatformTransactionManager transactionManager) {
+        this.customerRepository = customerRepository;
+        this.customerMapper = customerMapper;
+        this.searchIndex = searchIndex;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuildIndex();
+    }
+
+    public void rebuildIndex() {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Customer> customers = customerRepository.streamAll(REBUILD_FETCH_SIZE)) {
+                searchIndex.rebuild(customers);
+            }
+        });
+        logger.info("Customer search index built with {} customers", searchIndex.size());
+    }
+
+    /**
+     * Returns one page of the ranked search results. Only the ids of the requested page are
+     * loaded, with a single query, and returned in rank order.
+     */
+    @Timed("customer.search")
+    @Transactional(readOnly = true)
+    public Page<CustomerDTO> searchCustomers(String query, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        List<Long> rankedIds = searchIndex.search(query);
+        int fromIndex = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(fromIndex, toIndex);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, rankedIds.size());
+        }
+
+        Map<Long, Customer> customersById = customerRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+        List<CustomerDTO> content = pageIds.stream()
+                .map(customersById::get)
+                .filter(Objects::nonNull)
+                .map(customerMapper::toDTO)
+                .toList();
+        return new PageImpl<>(content, pageable, rankedIds.size());
+    }
+}
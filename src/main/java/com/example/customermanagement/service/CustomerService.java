@@ -1,20 +1,49 @@
 package com.example.customermanagement.service;
 
+import com.example.customermanagement.config.CacheConfig;
+import com.example.customermanagement.config.ReadWriteRoutingDataSource;
+import com.example.customermanagement.dto.BatchGetResult;
+import com.example.customermanagement.dto.CursorPage;
 import com.example.customermanagement.dto.CustomerDTO;
 import com.example.customermanagement.exception.CustomerNotFoundException;
+import com.example.customermanagement.exception.PreconditionFailedException;
 import com.example.customermanagement.mapper.CustomerMapper;
+import com.example.customermanagement.mapper.CustomerPatchMapper;
 import com.example.customermanagement.model.Customer;
 import com.example.customermanagement.repository.CustomerRepository;
+import com.example.customermanagement.utils.CountMode;
+import com.example.customermanagement.utils.CursorUtils;
+import com.example.customermanagement.utils.FieldUtils;
 import com.example.customermanagement.utils.SortUtils;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.Tuple;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
+@Timed("customer.service")
 public class CustomerService {
 
     private static final String CUSTOMER_NOT_FOUND_MESSAGE_PREFIX = "Customer not found with id ";
@@ -26,52 +55,291 @@ public class CustomerService {
             "address",
             "gender"
     );
+    private static final List<String> CURSOR_SORT_FIELDS = List.of(
+            "id",
+            "name",
+            "age",
+            "dateOfBirth"
+    );
+
+    private static final int BATCH_GET_CHUNK_SIZE = 1000;
+
+    private static final List<String> ALLOWED_FIELDS = List.of(
+            "id",
+            "name",
+            "age",
+            "dateOfBirth",
+            "address",
+            "gender"
+    );
 
     private final CustomerRepository customerRepository;
     private final CustomerMapper customerMapper;
+    private final CustomerPatchMapper customerPatchMapper;
+    private final CustomerSearchIndex searchIndex;
+    private final CustomerStatistics customerStatistics;
+    private final CacheManager cacheManager;
+    private final ApproximateCount customerCount = new ApproximateCount();
 
     @Autowired
     public CustomerService(CustomerRepository customerRepository,
-                           CustomerMapper customerMapper) {
+                           CustomerMapper customerMapper,
+                           CustomerPatchMapper customerPatchMapper,
+                           CustomerSearchIndex searchIndex,
+                           CustomerStatistics customerStatistics,
+                           CacheManager cacheManager) {
         this.customerRepository = customerRepository;
         this.customerMapper = customerMapper;
+        this.customerPatchMapper = customerPatchMapper;
+        this.searchIndex = searchIndex;
+        this.customerStatistics = customerStatistics;
+        this.cacheManager = cacheManager;
     }
 
     @Transactional
     public CustomerDTO createCustomer(CustomerDTO customerDTO) {
         Customer customer = customerMapper.toEntity(customerDTO);
         Customer savedCustomer = customerRepository.save(customer);
+        customerCount.addAfterCommit(1);
+        searchIndex.indexAfterCommit(savedCustomer);
         return customerMapper.toDTO(savedCustomer);
     }
 
+    /**
+     * Inserts the given customers in one transaction and returns their generated ids in
+     * input order.
+     */
+    @Transactional
+    public List<Long> createCustomers(List<CustomerDTO> customerDTOs) {
+        List<Customer> customers = customerDTOs.stream()
+                .map(customerMapper::toEntity)
+                .toList();
+        List<Customer> savedCustomers = customerRepository.saveAll(customers);
+        searchIndex.indexAllAfterCommit(savedCustomers);
+        customerCount.addAfterCommit(customers.size());
+        return savedCustomers.stream()
+                .map(Customer::getId)
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     public Page<CustomerDTO> getAllCustomers(int page, int size, String sortBy, String sortDir) {
         Pageable pageable = SortUtils.createPageable(page, size, sortBy, sortDir, ALLOWED_SORT_FIELDS);
         Page<Customer> customers = customerRepository.findAll(pageable);
+        customerCount.set(customers.getTotalElements());
         return customers.map(customerMapper::toDTO);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<CustomerDTO> getAllCustomers(int page, int size, String sortBy, String sortDir, String count) {
+        CountMode countMode = CountMode.fromString(count);
+        if (countMode == CountMode.EXACT) {
+            return getAllCustomers(page, size, sortBy, sortDir);
+        }
+
+        Pageable pageable = SortUtils.createPageable(page, size, sortBy, sortDir, ALLOWED_SORT_FIELDS);
+        Slice<CustomerDTO> customers = customerRepository.findAllBy(pageable).map(customerMapper::toDTO);
+        if (countMode == CountMode.NONE) {
+            return customers;
+        }
+        return new PageImpl<>(customers.getContent(), pageable, customerCount.get(customerRepository::count));
+    }
+
+    /**
+     * Variant of {@link #getAllCustomers(int, int, String, String, String)} that selects and
+     * returns only the requested fields, keyed by field name in request order.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> getCustomerFields(int page, int size, String sortBy, String sortDir,
+                                                        String count, String fields) {
+        List<String> selectedFields = FieldUtils.parseFields(fields, ALLOWED_FIELDS);
+        CountMode countMode = CountMode.fromString(count);
+        Pageable pageable = SortUtils.createPageable(page, size, sortBy, sortDir, ALLOWED_SORT_FIELDS);
+        Slice<Map<String, Object>> customers = customerRepository.findFields(selectedFields, pageable)
+                .map(tuple -> toFieldMap(tuple, selectedFields));
+        if (countMode == CountMode.NONE) {
+            return customers;
+        }
+
+        long total;
+        if (countMode == CountMode.EXACT) {
+            total = customerRepository.count();
+            customerCount.set(total);
+        } else {
+            total = customerCount.get(customerRepository::count);
+        }
+        return new PageImpl<>(customers.getContent(), pageable, total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<CustomerDTO> getCustomersByCursor(String cursor, int size, String sortBy, String sortDir) {
+        Sort sort = SortUtils.createSort(sortBy, sortDir, CURSOR_SORT_FIELDS);
+        Limit limit = CursorUtils.createLimit(size);
+        KeysetScrollPosition position = CursorUtils.decode(cursor, sort, Customer.class);
+        Window<Customer> customers = customerRepository.findBy(position, sort, limit);
+        return CursorUtils.toCursorPage(customers, sort, customerMapper::toDTO);
+    }
+
+    /**
+     * Loads a customer into the cache. The row is read from the writer, since a replica row
+     * that lags behind a committed update would stay cached until it expires.
+     */
+    @Cacheable(cacheNames = CacheConfig.CUSTOMERS_CACHE, key = "#id")
     @Transactional(readOnly = true)
     public CustomerDTO getCustomerById(Long id) {
+        ReadWriteRoutingDataSource.routeToWriter();
         return customerRepository.findById(id)
                 .map(customerMapper::toDTO)
                 .orElseThrow(() -> new CustomerNotFoundException(CUSTOMER_NOT_FOUND_MESSAGE_PREFIX + id));
     }
 
+    /**
+     * Looks up many customers at once with one {@code findAllById} per chunk of ids. Customers
+     * are returned in request order, each id once, and ids that do not exist are listed
+     * separately instead of failing the call.
+     */
+    @Transactional(readOnly = true)
+    public BatchGetResult getCustomersByIds(List<Long> ids) {
+        List<Long> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Map<Long, Customer> customersById = new HashMap<>(distinctIds.size());
+        for (int from = 0; from < distinctIds.size(); from += BATCH_GET_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BATCH_GET_CHUNK_SIZE, distinctIds.size()));
+            customerRepository.findAllById(chunk).forEach(customer -> customersById.put(customer.getId(), customer));
+        }
+
+        List<CustomerDTO> customers = new ArrayList<>(customersById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            Customer customer = customersById.get(id);
+            if (customer == null) {
+                missingIds.add(id);
+            } else {
+                customers.add(customerMapper.toDTO(customer));
+            }
+        }
+        return BatchGetResult.builder()
+                .customers(customers)
+                .missingIds(missingIds)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> getCustomerFieldsById(Long id, String fields) {
+        List<String> selectedFields = FieldUtils.parseFields(fields, ALLOWED_FIELDS);
+        return customerRepository.findFieldsById(id, selectedFields)
+                .map(tuple -> toFieldMap(tuple, selectedFields))
+                .orElseThrow(() -> new CustomerNotFoundException(CUSTOMER_NOT_FOUND_MESSAGE_PREFIX + id));
+    }
+
+    /**
+     * Returns the current version of a customer with a single-column query, so conditional
+     * GETs can be answered without loading or mapping the entity.
+     */
+    @Transactional(readOnly = true)
+    public long getCustomerVersion(Long id) {
+        return customerRepository.findVersionById(id)
+                .orElseThrow(() -> new CustomerNotFoundException(CUSTOMER_NOT_FOUND_MESSAGE_PREFIX + id));
+    }
+
+    /**
+     * Replaces a customer. When {@code expectedVersion} is set the update only happens if the
+     * customer is still at that version; the version check is repeated by the UPDATE itself,
+     * so a concurrent change between read and write is also detected.
+     */
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMERS_CACHE, key = "#id")
     @Transactional
-    public CustomerDTO updateCustomer(Long id, CustomerDTO customerDTO) {
+    public CustomerDTO updateCustomer(Long id, CustomerDTO customerDTO, Long expectedVersion) {
         Customer existingCustomer = customerRepository.findById(id)
                 .orElseThrow(() -> new CustomerNotFoundException(CUSTOMER_NOT_FOUND_MESSAGE_PREFIX + id));
+        checkVersion(id, expectedVersion, existingCustomer.getVersion());
         customerMapper.updateEntityFromDTO(customerDTO, existingCustomer);
-        Customer updatedCustomer = customerRepository.save(existingCustomer);
+        Customer updatedCustomer = customerRepository.saveAndFlush(existingCustomer);
+        searchIndex.indexAfterCommit(updatedCustomer);
         return customerMapper.toDTO(updatedCustomer);
     }
 
+    /**
+     * Applies a JSON Merge Patch. Only the columns present in the patch are written, by one
+     * conditional UPDATE without a preceding SELECT; the customer is read back afterwards to
+     * return its new state. An empty patch changes nothing and keeps the version.
+     */
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMERS_CACHE, key = "#id")
     @Transactional
-    public void deleteCustomer(Long id) {
-        if (!customerRepository.existsById(id)) {
+    public CustomerDTO patchCustomer(Long id, Map<String, Object> patch, Long expectedVersion) {
+        Map<String, Object> columnValues = customerPatchMapper.toColumnValues(patch);
+        if (columnValues.isEmpty()) {
+            Customer customer = customerRepository.findById(id)
+                    .orElseThrow(() -> new CustomerNotFoundException(CUSTOMER_NOT_FOUND_MESSAGE_PREFIX + id));
+            checkVersion(id, expectedVersion, customer.getVersion());
+            return customerMapper.toDTO(customer);
+        }
+
+        if (customerRepository.updateFields(id, columnValues, expectedVersion) == 0) {
+            checkVersion(id, expectedVersion, getCustomerVersion(id));
+        }
+        Customer patchedCustomer = customerRepository.findById(id)
+                .orElseThrow(() -> new CustomerNotFoundException(CUSTOMER_NOT_FOUND_MESSAGE_PREFIX + id));
+        searchIndex.indexAfterCommit(patchedCustomer);
+        customerStatistics.recordAfterCommit(patchedCustomer);
+        return customerMapper.toDTO(patchedCustomer);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMERS_CACHE, key = "#id")
+    @Transactional
+    public void deleteCustomer(Long id, Long expectedVersion) {
+        if (expectedVersion != null) {
+            checkVersion(id, expectedVersion, getCustomerVersion(id));
+        } else if (!customerRepository.existsById(id)) {
             throw new CustomerNotFoundException(CUSTOMER_NOT_FOUND_MESSAGE_PREFIX + id);
         }
         customerRepository.deleteById(id);
+        customerCount.addAfterCommit(-1);
+        searchIndex.removeAfterCommit(id);
+    }
+
+    /**
+     * Deletes the given customers with one set-based {@code DELETE} and returns the ids that
+     * existed. Rows are removed without being loaded into the persistence context. The deleted
+     * customers are evicted from the customers cache after commit; {@code @CacheEvict} cannot
+     * evict a collection of keys.
+     */
+    @Transactional
+    public List<Long> deleteCustomers(Collection<Long> ids) {
+        List<Long> existingIds = customerRepository.findExistingIds(ids);
+        if (existingIds.isEmpty()) {
+            return existingIds;
+        }
+        int deleted = customerRepository.deleteAllByIdIn(existingIds);
+        customerCount.addAfterCommit(-deleted);
+        searchIndex.removeAllAfterCommit(existingIds);
+        customerStatistics.removeAllAfterCommit(existingIds);
+        Cache cache = cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE);
+        if (cache != null) {
+            existingIds.forEach(cache::evict);
+        }
+        return existingIds;
+    }
+
+    private static void checkVersion(Long id, Long expectedVersion, Long currentVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new PreconditionFailedException("Customer " + id + " has been modified; current version is " +
+                    currentVersion);
+        }
+    }
+
+    private static Map<String, Object> toFieldMap(Tuple tuple, List<String> fields) {
+        Map<String, Object> customer = new LinkedHashMap<>();
+        for (String field : fields) {
+            Object value = tuple.get(field);
+            if (value instanceof LocalDate || value instanceof Enum<?>) {
+                value = value.toString();
+            }
+            customer.put(field, value);
+        }
+        return customer;
     }
 }
@@ -0,0 +1,154 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.dto.CustomerStatsDTO;
+import com.example.customermanagement.model.Customer;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory customer counts by gender, age bucket and birth decade. The buckets of every
+ * customer are kept by id, so an update only needs the new state to move the customer out of
+ * its old buckets and into the new ones, and a delete only needs the id.
+ */
+@Component
+public class CustomerStatistics {
+
+    static final String UNKNOWN = "UNKNOWN";
+    private static final int[] AGE_BUCKET_LOWER_BOUNDS = {0, 18, 25, 35, 45, 55, 65};
+    private static final List<String> AGE_BUCKETS = List.of("0-17", "18-24", "25-34", "35-44", "45-54", "55-64", "65+");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Buckets> bucketsById = new HashMap<>();
+    private final Map<String, Long> genderCounts = new HashMap<>();
+    private final Map<String, Long> ageCounts = new HashMap<>();
+    private final Map<String, Long> decadeCounts = new HashMap<>();
+
+    public void recordAfterCommit(Customer customer) {
+        Buckets buckets = Buckets.of(customer);
+        Long id = customer.getId();
+        AfterCommit.run(() -> record(id, buckets));
+    }
+
+    public void removeAfterCommit(Long id) {
+        AfterCommit.run(() -> removeAll(List.of(id)));
+    }
+
+    public void removeAllAfterCommit(Collection<Long> ids) {
+        AfterCommit.run(() -> removeAll(ids));
+    }
+
+    public void rebuild(Stream<Customer> customers) {
+        lock.writeLock().lock();
+        try {
+            bucketsById.clear();
+            genderCounts.clear();
+            ageCounts.clear();
+            decadeCounts.clear();
+            customers.forEach(customer -> add(customer.getId(), Buckets.of(customer)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void record(Customer customer) {
+        record(customer.getId(), Buckets.of(customer));
+    }
+
+    public void removeAll(Collection<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            ids.forEach(this::subtract);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public CustomerStatsDTO snapshot() {
+        lock.readLock().lock();
+        try {
+            Map<String, Long> byAgeBucket = new LinkedHashMap<>();
+            for (String bucket : AGE_BUCKETS) {
+                byAgeBucket.put(bucket, ageCounts.getOrDefault(bucket, 0L));
+            }
+            if (ageCounts.containsKey(UNKNOWN)) {
+                byAgeBucket.put(UNKNOWN, ageCounts.get(UNKNOWN));
+            }
+            return CustomerStatsDTO.builder()
+                    .total(bucketsById.size())
+                    .byGender(new TreeMap<>(genderCounts))
+                    .byAgeBucket(byAgeBucket)
+                    .byBirthDecade(new TreeMap<>(decadeCounts))
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void record(Long id, Buckets buckets) {
+        lock.writeLock().lock();
+        try {
+            subtract(id);
+            add(id, buckets);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(Long id, Buckets buckets) {
+        bucketsById.put(id, buckets);
+        genderCounts.merge(buckets.gender(), 1L, Long::sum);
+        ageCounts.merge(buckets.age(), 1L, Long::sum);
+        decadeCounts.merge(buckets.birthDecade(), 1L, Long::sum);
+    }
+
+    private void subtract(Long id) {
+        Buckets buckets = bucketsById.remove(id);
+        if (buckets == null) {
+            return;
+        }
+        decrement(genderCounts, buckets.gender());
+        decrement(ageCounts, buckets.age());
+        decrement(decadeCounts, buckets.birthDecade());
+    }
+
+    private static void decrement(Map<String, Long> counts, String bucket) {
+        counts.computeIfPresent(bucket, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    static String ageBucket(Integer age) {
+        if (age == null || age < 0) {
+            return UNKNOWN;
+        }
+        int index = AGE_BUCKET_LOWER_BOUNDS.length - 1;
+        while (age < AGE_BUCKET_LOWER_BOUNDS[index]) {
+            index--;
+        }
+        return AGE_BUCKETS.get(index);
+    }
+
+    static String birthDecade(LocalDate dateOfBirth) {
+        if (dateOfBirth == null) {
+            return UNKNOWN;
+        }
+        return Math.floorDiv(dateOfBirth.getYear(), 10) * 10 + "s";
+    }
+
+    private record Buckets(String gender, String age, String birthDecade) {
+
+        private static Buckets of(Customer customer) {
+            String gender = customer.getGender() != null ? customer.getGender().name() : UNKNOWN;
+            return new Buckets(gender, ageBucket(customer.getAge()),
+                    CustomerStatistics.birthDecade(customer.getDateOfBirth()));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.dto.CustomerStatsDTO;
+import com.example.customermanagement.model.Customer;
+import com.example.customermanagement.repository.CustomerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Serves customer statistics from {@link CustomerStatistics}. The counters are built from the
+ * database once all beans are created, before the web server accepts requests, and are kept
+ * current after each committed write, so requests never query the database.
+ */
+@Service
+public class CustomerStatsService implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerStatsService.class);
+    private static final int REBUILD_FETCH_SIZE = 1000;
+
+    private final CustomerRepository customerRepository;
+    private final CustomerStatistics customerStatistics;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Autowired
+    public CustomerStatsService(CustomerRepository customerRepository,
+                                CustomerStatistics customerStatistics,
+                                PlatformTransactionManager transactionManager) {
+        this.customerRepository = customerRepository;
+        this.customerStatistics = customerStatistics;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuildStatistics();
+    }
+
+    public void rebuildStatistics() {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Customer> customers = customerRepository.streamAll(REBUILD_FETCH_SIZE)) {
+                customerStatistics.rebuild(customers);
+            }
+        });
+        logger.info("Customer statistics built with {} customers", customerStatistics.snapshot().getTotal());
+    }
+
+    public CustomerStatsDTO getStats() {
+        return customerStatistics.snapshot();
+    }
+}
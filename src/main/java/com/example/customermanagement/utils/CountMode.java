@@ -0,0 +1,28 @@
+package com.example.customermanagement.utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * How the total element count of a paged listing is obtained.
+ */
+public enum CountMode {
+    /** Run a COUNT query next to the data query and return a page. */
+    EXACT,
+    /** Return a page whose total comes from an incrementally maintained counter. */
+    CACHED,
+    /** Return a slice without any total. */
+    NONE;
+
+    private static final List<String> ALLOWED_COUNT_MODES = Arrays.stream(values())
+            .map(mode -> mode.name().toLowerCase())
+            .toList();
+
+    public static CountMode fromString(String count) {
+        if (!ALLOWED_COUNT_MODES.contains(count.toLowerCase())) {
+            throw new IllegalArgumentException("Invalid count mode '" + count +
+                    "'. Allowed values are " + ALLOWED_COUNT_MODES);
+        }
+        return valueOf(count.toUpperCase());
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.customermanagement.utils;
+
+import com.example.customermanagement.dto.CursorPage;
+import com.example.customermanagement.exception.InvalidCursorException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Encodes keyset scroll positions as opaque, URL-safe continuation tokens.
+ * A token holds the sort direction, then the sort key of the last row followed by its id,
+ * each tagged with its type so the seek predicate is bound with the same Java type as the
+ * entity attribute. Every field is written as its length, a colon and its text, so any
+ * character may appear in a value.
+ */
+public final class CursorUtils {
+
+    private static final String ID_FIELD = "id";
+    private static final char LENGTH_DELIMITER = ':';
+    private static final String INVALID_CURSOR_MESSAGE = "Invalid cursor";
+
+    private static final Map<Class<?>, Character> TYPE_TAGS = Map.of(
+            Long.class, 'L',
+            Integer.class, 'I',
+            String.class, 'S',
+            LocalDate.class, 'D',
+            LocalDateTime.class, 'T'
+    );
+
+    private static final Map<Character, Function<String, Object>> TYPE_PARSERS = Map.of(
+            'L', Long::valueOf,
+            'I', Integer::valueOf,
+            'S', value -> value,
+            'D', LocalDate::parse,
+            'T', LocalDateTime::parse
+    );
+
+    private CursorUtils() {
+    }
+
+    public static Limit createLimit(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must not be less than one");
+        }
+        return Limit.of(size);
+    }
+
+    /**
+     * Decodes a continuation token for the given sort over {@code entityType}. Each key must be
+     * tagged with the type of the entity attribute it names, so a forged token cannot bind a
+     * value of another type to the seek predicate.
+     */
+    public static KeysetScrollPosition decode(String cursor, Sort sort, Class<?> entityType) {
+        if (cursor == null || cursor.isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(INVALID_CURSOR_MESSAGE);
+        }
+
+        List<String> fields = readFields(decoded);
+        if (fields.size() % 2 != 1) {
+            throw new InvalidCursorException(INVALID_CURSOR_MESSAGE);
+        }
+
+        Sort.Order order = sort.iterator().next();
+        if (!order.getDirection().name().equals(fields.get(0))) {
+            throw new InvalidCursorException("Cursor does not match sort direction '"
+                    + order.getDirection().name().toLowerCase() + "'");
+        }
+
+        String sortMismatchMessage = "Cursor does not match sort parameter '" + order.getProperty() + "'";
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (int i = 1; i < fields.size(); i += 2) {
+            keys.put(fields.get(i), parseValue(fields.get(i + 1)));
+        }
+
+        if (!keys.containsKey(order.getProperty()) || !keys.containsKey(ID_FIELD) || keys.size() > 2) {
+            throw new InvalidCursorException(sortMismatchMessage);
+        }
+        for (Map.Entry<String, Object> key : keys.entrySet()) {
+            if (key.getValue().getClass() != attributeType(entityType, key.getKey())) {
+                throw new InvalidCursorException(sortMismatchMessage);
+            }
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    public static <T, R> CursorPage<R> toCursorPage(Window<T> window, Sort sort,
+                                                    Function<? super T, ? extends R> mapper) {
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? encode((KeysetScrollPosition) window.positionAt(window.size() - 1), sort)
+                : null;
+        List<R> content = window.getContent().stream()
+                .<R>map(mapper)
+                .toList();
+        return CursorPage.<R>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    static String encode(KeysetScrollPosition position, Sort sort) {
+        StringBuilder builder = new StringBuilder();
+        writeField(builder, sort.iterator().next().getDirection().name());
+        for (Map.Entry<String, Object> key : position.getKeys().entrySet()) {
+            Character tag = TYPE_TAGS.get(key.getValue().getClass());
+            if (tag == null) {
+                throw new IllegalStateException("Unsupported cursor key type " + key.getValue().getClass());
+            }
+            writeField(builder, key.getKey());
+            writeField(builder, tag + key.getValue().toString());
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeField(StringBuilder builder, String field) {
+        builder.append(field.length()).append(LENGTH_DELIMITER).append(field);
+    }
+
+    private static List<String> readFields(String decoded) {
+        List<String> fields = new ArrayList<>();
+        int position = 0;
+        while (position < decoded.length()) {
+            int delimiter = decoded.indexOf(LENGTH_DELIMITER, position);
+            if (delimiter <= position) {
+                throw new InvalidCursorException(INVALID_CURSOR_MESSAGE);
+            }
+            int length;
+            try {
+                length = Integer.parseInt(decoded, position, delimiter, 10);
+            } catch (NumberFormatException e) {
+                throw new InvalidCursorException(INVALID_CURSOR_MESSAGE);
+            }
+            int end = delimiter + 1 + length;
+            if (length < 0 || end > decoded.length()) {
+                throw new InvalidCursorException(INVALID_CURSOR_MESSAGE);
+            }
+            fields.add(decoded.substring(delimiter + 1, end));
+            position = end;
+        }
+        return fields;
+    }
+
+    private static Class<?> attributeType(Class<?> entityType, String attribute) {
+        Field field = ReflectionUtils.findField(entityType, attribute);
+        if (field == null) {
+            throw new IllegalStateException("Unknown cursor key " + attribute + " of " + entityType.getSimpleName());
+        }
+        return ClassUtils.resolvePrimitiveIfNecessary(field.getType());
+    }
+
+    private static Object parseValue(String taggedValue) {
+        if (taggedValue.isEmpty()) {
+            throw new InvalidCursorException(INVALID_CURSOR_MESSAGE);
+        }
+        Function<String, Object> parser = TYPE_PARSERS.get(taggedValue.charAt(0));
+        if (parser == null) {
+            throw new InvalidCursorException(INVALID_CURSOR_MESSAGE);
+        }
+        try {
+            return parser.apply(taggedValue.substring(1));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new InvalidCursorException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+}
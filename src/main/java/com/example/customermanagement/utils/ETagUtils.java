@@ -0,0 +1,54 @@
+package com.example.customermanagement.utils;
+
+import com.example.customermanagement.exception.PreconditionFailedException;
+
+public final class ETagUtils {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETagUtils() {
+    }
+
+    public static String toETag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Tells whether an {@code If-None-Match} header matches the given version, using the weak
+     * comparison RFC 9110 prescribes for this header.
+     */
+    public static boolean matchesIfNoneMatch(String ifNoneMatch, long version) {
+        String eTag = toETag(version);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith(WEAK_PREFIX)) {
+                trimmed = trimmed.substring(WEAK_PREFIX.length());
+            }
+            if (ANY.equals(trimmed) || eTag.equals(trimmed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the entity version an {@code If-Match} header requires, or {@code null} when the
+     * header is absent or {@code *}. Only a single strong ETag issued by this application can
+     * match; anything else fails the precondition.
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String eTag = ifMatch.trim();
+        if (eTag.length() > 2 && eTag.startsWith("\"") && eTag.endsWith("\"")) {
+            try {
+                return Long.parseLong(eTag.substring(1, eTag.length() - 1));
+            } catch (NumberFormatException e) {
+                // falls through to the precondition failure below
+            }
+        }
+        throw new PreconditionFailedException("If-Match " + ifMatch + " does not match the current ETag");
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.customermanagement.utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+public enum ExportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv"),
+    CBOR("application/cbor-seq");
+
+    private static final List<String> ALLOWED_EXPORT_FORMATS = Arrays.stream(values())
+            .map(format -> format.name().toLowerCase())
+            .toList();
+
+    private final String contentType;
+
+    ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static ExportFormat fromString(String format) {
+        if (!ALLOWED_EXPORT_FORMATS.contains(format.toLowerCase())) {
+            throw new IllegalArgumentException("Invalid export format '" + format +
+                    "'. Allowed values are " + ALLOWED_EXPORT_FORMATS);
+        }
+        return valueOf(format.toUpperCase());
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.customermanagement.utils;
+
+import com.example.customermanagement.exception.InvalidFieldsParameterException;
+
+import java.util.Arrays;
+import java.util.List;
+
+public final class FieldUtils {
+
+    private FieldUtils() {
+    }
+
+    /**
+     * Parses a comma-separated {@code fields} parameter into the distinct field names it
+     * lists, in request order. Every name must be one of {@code allowedFields}.
+     */
+    public static List<String> parseFields(String fields, List<String> allowedFields) {
+        List<String> selectedFields = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .distinct()
+                .toList();
+        if (selectedFields.isEmpty()) {
+            throw new InvalidFieldsParameterException("No fields requested. Allowed values are " + allowedFields);
+        }
+        for (String field : selectedFields) {
+            if (!allowedFields.contains(field)) {
+                throw new InvalidFieldsParameterException("Invalid field '" + field +
+                        "'. Allowed values are " + allowedFields);
+            }
+        }
+        return selectedFields;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.customermanagement.utils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+
+public enum PartitionGranularity {
+    DAILY {
+        @Override
+        public LocalDate bucketOf(LocalDateTime dateTime) {
+            return dateTime.toLocalDate();
+        }
+    },
+    WEEKLY {
+        @Override
+        public LocalDate bucketOf(LocalDateTime dateTime) {
+            return dateTime.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+    };
+
+    /**
+     * Returns the first day of the bucket the given point in time belongs to.
+     */
+    public abstract LocalDate bucketOf(LocalDateTime dateTime);
+}
@@ -0,0 +1,73 @@
+package com.example.customermanagement.utils;
+
+import com.example.customermanagement.model.AuditEntry;
+import com.example.customermanagement.model.PayloadCodec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+public final class PayloadCompression {
+
+    private PayloadCompression() {
+    }
+
+    /**
+     * Stores the request of a new audit entry deflated in {@code requestData} when it is at
+     * least {@code threshold} bytes long and compression actually makes it smaller; otherwise
+     * it stays in {@code request} as plain text. Either way the codec is recorded.
+     */
+    public static void compressRequest(AuditEntry auditEntry, long threshold) {
+        if (auditEntry.getRequestCodec() != null) {
+            return;
+        }
+        auditEntry.setRequestCodec(PayloadCodec.PLAIN);
+        String request = auditEntry.getRequest();
+        if (request == null) {
+            return;
+        }
+        byte[] plain = request.getBytes(StandardCharsets.UTF_8);
+        if (plain.length < threshold) {
+            return;
+        }
+        byte[] compressed = deflate(plain);
+        if (compressed.length < plain.length) {
+            auditEntry.setRequest(null);
+            auditEntry.setRequestData(compressed);
+            auditEntry.setRequestCodec(PayloadCodec.DEFLATE);
+        }
+    }
+
+    /**
+     * Returns the request of an audit entry as text. Entries without a codec were written
+     * before compression was introduced and hold plain text.
+     */
+    public static String decompressRequest(AuditEntry auditEntry) {
+        if (auditEntry.getRequestCodec() != PayloadCodec.DEFLATE) {
+            return auditEntry.getRequest();
+        }
+        return new String(inflate(auditEntry.getRequestData()), StandardCharsets.UTF_8);
+    }
+
+    public static byte[] deflate(byte[] data) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(output)) {
+            deflater.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    public static byte[] inflate(byte[] data) {
+        try (InflaterInputStream inflater = new InflaterInputStream(new ByteArrayInputStream(data))) {
+            return inflater.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt compressed audit payload", e);
+        }
+    }
+}
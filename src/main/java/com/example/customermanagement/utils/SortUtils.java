@@ -20,6 +20,11 @@ public final class SortUtils {
 
     public static Pageable createPageable(int page, int size, String sortBy, String sortDir,
                                           List<String> allowedSortFields) {
+        Sort sort = createSort(sortBy, sortDir, allowedSortFields);
+        return PageRequest.of(page, size, sort);
+    }
+
+    public static Sort createSort(String sortBy, String sortDir, List<String> allowedSortFields) {
         if (!allowedSortFields.contains(sortBy)) {
             throw new InvalidSortParameterException("Invalid sort parameter '" + sortBy +
                     "'. Allowed values are " + allowedSortFields);
@@ -31,7 +36,6 @@ public final class SortUtils {
         }
 
         Sort.Direction direction = Sort.Direction.fromString(sortDir);
-        Sort sort = Sort.by(direction, sortBy);
-        return PageRequest.of(page, size, sort);
+        return Sort.by(direction, sortBy);
     }
 }
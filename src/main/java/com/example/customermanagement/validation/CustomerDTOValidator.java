@@ -0,0 +1,87 @@
+package com.example.customermanagement.validation;
+
+import com.example.customermanagement.dto.CustomerDTO;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Checks the {@link CustomerDTO} constraints directly, without reflection, for validating large
+ * batches. It reports the same violations, keyed by property and with the same messages, as
+ * the annotation-driven path; {@code CustomerDTOValidatorTest} keeps the two in step. The date
+ * of birth is compared with the {@code today} given at construction, so one instance should
+ * serve one batch.
+ */
+public class CustomerDTOValidator {
+
+    static final String NAME_NULL_MESSAGE = "Name cannot be null";
+    static final String NAME_SIZE_MESSAGE = "Name must not exceed 100 characters";
+    static final String AGE_NULL_MESSAGE = "Age cannot be null";
+    static final String AGE_POSITIVE_MESSAGE = "Age must be a positive number";
+    static final String DATE_OF_BIRTH_NULL_MESSAGE = "Date of birth cannot be null";
+    static final String DATE_OF_BIRTH_INVALID_MESSAGE =
+            "Date must be in the format yyyy-MM-dd, be a valid date, and not be in the future";
+    static final String ADDRESS_SIZE_MESSAGE = "Address must not exceed 200 characters or null";
+    static final String GENDER_PATTERN_MESSAGE = "Gender must be 'M' (Male), 'F' (Female), or null";
+
+    private static final int NAME_MAX_LENGTH = 100;
+    private static final int ADDRESS_MAX_LENGTH = 200;
+
+    private final LocalDate today;
+
+    public CustomerDTOValidator(LocalDate today) {
+        this.today = today;
+    }
+
+    /**
+     * Returns the violation message of each invalid property, or an empty map when the
+     * customer is valid.
+     */
+    public Map<String, String> validate(CustomerDTO customerDTO) {
+        Map<String, String> errors = null;
+
+        String name = customerDTO.getName();
+        if (name == null) {
+            errors = put(errors, "name", NAME_NULL_MESSAGE);
+        } else if (name.length() > NAME_MAX_LENGTH) {
+            errors = put(errors, "name", NAME_SIZE_MESSAGE);
+        }
+
+        Integer age = customerDTO.getAge();
+        if (age == null) {
+            errors = put(errors, "age", AGE_NULL_MESSAGE);
+        } else if (age <= 0) {
+            errors = put(errors, "age", AGE_POSITIVE_MESSAGE);
+        }
+
+        String dateOfBirth = customerDTO.getDateOfBirth();
+        if (dateOfBirth == null) {
+            errors = put(errors, "dateOfBirth", DATE_OF_BIRTH_NULL_MESSAGE);
+        } else if (!DateValidator.isValidDate(dateOfBirth, today)) {
+            errors = put(errors, "dateOfBirth", DATE_OF_BIRTH_INVALID_MESSAGE);
+        }
+
+        String address = customerDTO.getAddress();
+        if (address != null && address.length() > ADDRESS_MAX_LENGTH) {
+            errors = put(errors, "address", ADDRESS_SIZE_MESSAGE);
+        }
+
+        String gender = customerDTO.getGender();
+        if (gender != null && !isGender(gender)) {
+            errors = put(errors, "gender", GENDER_PATTERN_MESSAGE);
+        }
+
+        return errors != null ? errors : Map.of();
+    }
+
+    private static boolean isGender(String gender) {
+        return gender.length() == 1 && (gender.charAt(0) == 'M' || gender.charAt(0) == 'F');
+    }
+
+    private static Map<String, String> put(Map<String, String> errors, String property, String message) {
+        Map<String, String> result = errors != null ? errors : new HashMap<>();
+        result.put(property, message);
+        return result;
+    }
+}
@@ -5,29 +5,70 @@ import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeParseException;
-import java.util.Optional;
 
 public class DateValidator implements ConstraintValidator<ValidDate, String> {
 
+    private static final int ISO_DATE_LENGTH = 10;
+
     @Override
     public boolean isValid(String dateStr, ConstraintValidatorContext context) {
+        return isValidDate(dateStr, LocalDate.now());
+    }
+
+    /**
+     * Returns whether the value is {@code null} or an ISO-8601 date that is not after
+     * {@code today}. Plain {@code yyyy-MM-dd} values, which is almost all of them, are checked
+     * in place without allocating; anything else goes through {@link LocalDate#parse}, so
+     * both paths accept exactly the same values.
+     */
+    public static boolean isValidDate(String dateStr, LocalDate today) {
         if (dateStr == null) {
             return true;
         }
-        return Optional.of(dateStr)
-                .filter(str -> !str.isBlank())
-                .flatMap(this::parseDate)
-                .map(date -> !date.isAfter(LocalDate.now()))
-                .orElse(false);
-    }
-
-    private Optional<LocalDate> parseDate(String dateStr) {
+        if (dateStr.length() == ISO_DATE_LENGTH && hasPlainIsoDateShape(dateStr)) {
+            int year = digits(dateStr, 0, 4);
+            int month = digits(dateStr, 5, 7);
+            int day = digits(dateStr, 8, 10);
+            if (month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+                return false;
+            }
+            if (year != today.getYear()) {
+                return year < today.getYear();
+            }
+            if (month != today.getMonthValue()) {
+                return month < today.getMonthValue();
+            }
+            return day <= today.getDayOfMonth();
+        }
+        if (dateStr.isBlank()) {
+            return false;
+        }
         try {
-            var parsedDate = LocalDate.parse(dateStr);
-            return Optional.of(parsedDate);
+            return !LocalDate.parse(dateStr).isAfter(today);
         } catch (DateTimeParseException e) {
-            return Optional.empty();
+            return false;
+        }
+    }
+
+    private static boolean hasPlainIsoDateShape(String dateStr) {
+        for (int i = 0; i < ISO_DATE_LENGTH; i++) {
+            char c = dateStr.charAt(i);
+            boolean separator = i == 4 || i == 7;
+            if (separator ? c != '-' : c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            result = result * 10 + (value.charAt(i) - '0');
         }
+        return result;
     }
 }
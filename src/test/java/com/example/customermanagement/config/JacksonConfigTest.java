@@ -0,0 +1,36 @@
+package com.example.customermanagement.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JacksonConfigTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JacksonConfig().sliceModule());
+
+    @Test
+    @DisplayName("Given slice_When serialized_Then content and page block are written without pageable")
+    void givenSlice_WhenSerialized_ThenContentAndPageBlockAreWrittenWithoutPageable() throws Exception {
+        SliceImpl<String> slice = new SliceImpl<>(List.of("a", "b"), PageRequest.of(1, 2, Sort.by("name")), true);
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(slice));
+
+        assertEquals(List.of("content", "page"), json.properties().stream().map(Map.Entry::getKey).toList());
+        assertEquals("a", json.get("content").get(0).asText());
+        assertEquals(2, json.get("page").get("size").asInt());
+        assertEquals(1, json.get("page").get("number").asInt());
+        assertTrue(json.get("page").get("hasNext").asBoolean());
+        assertFalse(json.has("pageable"));
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.customermanagement.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Instant NOW = Instant.parse("2024-09-01T10:00:00Z");
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        setUp(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Given read-only transaction_When query_Then reader database is used")
+    void givenReadOnlyTransaction_WhenQuery_ThenReaderDatabaseIsUsed() {
+        assertEquals("reader", readOnlyTransaction.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    @DisplayName("Given read-write transaction_When query_Then writer database is used")
+    void givenReadWriteTransaction_WhenQuery_ThenWriterDatabaseIsUsed() {
+        assertEquals("writer", writeTransaction.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    @DisplayName("Given read-only transaction routed to writer_When query_Then writer database is used")
+    void givenReadOnlyTransactionRoutedToWriter_WhenQuery_ThenWriterDatabaseIsUsed() {
+        assertEquals("writer", readOnlyTransaction.execute(status -> {
+            ReadWriteRoutingDataSource.routeToWriter();
+            return currentDatabase();
+        }));
+        assertEquals("reader", readOnlyTransaction.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    @DisplayName("Given no transaction_When query_Then writer database is used")
+    void givenNoTransaction_WhenQuery_ThenWriterDatabaseIsUsed() {
+        assertEquals("writer", currentDatabase());
+    }
+
+    @Test
+    @DisplayName("Given committed write in request_When read-only transaction follows_Then writer database is used and pin cookie is set")
+    void givenCommittedWriteInRequest_WhenReadOnlyTransactionFollows_ThenWriterDatabaseIsUsedAndPinCookieIsSet() {
+        MockHttpServletResponse response = bindRequest(new MockHttpServletRequest());
+
+        writeTransaction.executeWithoutResult(status -> currentDatabase());
+
+        assertEquals("writer", readOnlyTransaction.execute(status -> currentDatabase()));
+        Cookie cookie = response.getCookie(ReadWriteRoutingDataSource.PINNED_UNTIL_COOKIE);
+        assertNotNull(cookie);
+        assertEquals(String.valueOf(NOW.plusSeconds(5).toEpochMilli()), cookie.getValue());
+        assertEquals(5, cookie.getMaxAge());
+    }
+
+    @Test
+    @DisplayName("Given rolled back write in request_When read-only transaction follows_Then reader database is used")
+    void givenRolledBackWriteInRequest_WhenReadOnlyTransactionFollows_ThenReaderDatabaseIsUsed() {
+        MockHttpServletResponse response = bindRequest(new MockHttpServletRequest());
+
+        writeTransaction.executeWithoutResult(status -> {
+            currentDatabase();
+            status.setRollbackOnly();
+        });
+
+        assertEquals("reader", readOnlyTransaction.execute(status -> currentDatabase()));
+        assertNull(response.getCookie(ReadWriteRoutingDataSource.PINNED_UNTIL_COOKIE));
+    }
+
+    @Test
+    @DisplayName("Given unexpired pin cookie_When read-only transaction_Then writer database is used")
+    void givenUnexpiredPinCookie_WhenReadOnlyTransaction_ThenWriterDatabaseIsUsed() {
+        bindRequest(requestWithPinCookie(NOW.plusSeconds(1)));
+
+        assertEquals("writer", readOnlyTransaction.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    @DisplayName("Given expired pin cookie_When read-only transaction_Then reader database is used")
+    void givenExpiredPinCookie_WhenReadOnlyTransaction_ThenReaderDatabaseIsUsed() {
+        bindRequest(requestWithPinCookie(NOW.minusSeconds(1)));
+
+        assertEquals("reader", readOnlyTransaction.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    @DisplayName("Given read-your-writes disabled_When read-only transaction follows write_Then reader database is used")
+    void givenReadYourWritesDisabled_WhenReadOnlyTransactionFollowsWrite_ThenReaderDatabaseIsUsed() {
+        setUp(Duration.ZERO);
+        MockHttpServletResponse response = bindRequest(requestWithPinCookie(NOW.plusSeconds(1)));
+
+        writeTransaction.executeWithoutResult(status -> currentDatabase());
+
+        assertEquals("reader", readOnlyTransaction.execute(status -> currentDatabase()));
+        assertNull(response.getCookie(ReadWriteRoutingDataSource.PINNED_UNTIL_COOKIE));
+    }
+
+    private void setUp(Duration readYourWritesWindow) {
+        DataSource routingDataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                h2Database("writer"), h2Database("reader"), readYourWritesWindow,
+                Clock.fixed(NOW, ZoneOffset.UTC)));
+        jdbcTemplate = new JdbcTemplate(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routingDataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT NAME FROM DATABASE_ROLE", String.class);
+    }
+
+    private static DataSource h2Database(String role) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + role + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE DATABASE_ROLE (NAME VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO DATABASE_ROLE (NAME) VALUES (?)", role);
+        return dataSource;
+    }
+
+    private static MockHttpServletRequest requestWithPinCookie(Instant pinnedUntil) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadWriteRoutingDataSource.PINNED_UNTIL_COOKIE,
+                String.valueOf(pinnedUntil.toEpochMilli())));
+        return request;
+    }
+
+    private static MockHttpServletResponse bindRequest(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.customermanagement.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BodyCapturingHttpServletRequestTest {
+
+    private static final String BODY = "{\n  \"name\": \"John Smith\",\n\t\"age\": 30\r\n}";
+
+    @Test
+    @DisplayName("Given capture not started_When body is read_Then nothing is captured")
+    void givenCaptureNotStarted_WhenBodyIsRead_ThenNothingIsCaptured() throws IOException {
+        BodyCapturingHttpServletRequest request = new BodyCapturingHttpServletRequest(mockRequest(BODY));
+
+        byte[] read = request.getInputStream().readAllBytes();
+
+        assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), read);
+        assertNull(request.getCapturedBody());
+    }
+
+    @Test
+    @DisplayName("Given capture started_When body is read_Then compacted body is captured and original bytes are returned")
+    void givenCaptureStarted_WhenBodyIsRead_ThenCompactedBodyIsCapturedAndOriginalBytesAreReturned() throws IOException {
+        BodyCapturingHttpServletRequest request = new BodyCapturingHttpServletRequest(mockRequest(BODY));
+        request.startCapture(1024);
+
+        byte[] read = request.getInputStream().readAllBytes();
+
+        assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), read);
+        assertEquals(BODY.replaceAll("\\s+", ""), request.getCapturedBody());
+    }
+
+    @Test
+    @DisplayName("Given capture started_When body is read through reader_Then body is captured")
+    void givenCaptureStarted_WhenBodyIsReadThroughReader_ThenBodyIsCaptured() throws IOException {
+        BodyCapturingHttpServletRequest request = new BodyCapturingHttpServletRequest(mockRequest(BODY));
+        request.startCapture(1024);
+
+        while (request.getReader().read() != -1) {
+            // consume the body
+        }
+
+        assertEquals(BODY.replaceAll("\\s+", ""), request.getCapturedBody());
+    }
+
+    @Test
+    @DisplayName("Given body larger than limit_When body is read_Then capture stops at the limit")
+    void givenBodyLargerThanLimit_WhenBodyIsRead_ThenCaptureStopsAtTheLimit() throws IOException {
+        BodyCapturingHttpServletRequest request = new BodyCapturingHttpServletRequest(mockRequest(BODY));
+        request.startCapture(10);
+
+        request.getInputStream().readAllBytes();
+
+        assertEquals(BODY.replaceAll("\\s+", "").substring(0, 10), request.getCapturedBody());
+    }
+
+    @Test
+    @DisplayName("Given capture started without skipping whitespace_When body is read_Then every byte is captured")
+    void givenCaptureStartedWithoutSkippingWhitespace_WhenBodyIsRead_ThenEveryByteIsCaptured() throws IOException {
+        byte[] binaryBody = {(byte) 0xA1, 0x20, 0x0A, (byte) 0xFF, 0x09};
+        MockHttpServletRequest mockRequest = new MockHttpServletRequest("POST", "/api/customers");
+        mockRequest.setContent(binaryBody);
+        BodyCapturingHttpServletRequest request = new BodyCapturingHttpServletRequest(mockRequest);
+        request.startCapture(1024, false);
+
+        request.getInputStream().readAllBytes();
+
+        assertArrayEquals(binaryBody, request.getCapturedBytes());
+    }
+
+    @Test
+    @DisplayName("Given capture started_When body is not read_Then nothing is captured")
+    void givenCaptureStarted_WhenBodyIsNotRead_ThenNothingIsCaptured() {
+        BodyCapturingHttpServletRequest request = new BodyCapturingHttpServletRequest(mockRequest(BODY));
+        request.startCapture(1024);
+
+        assertNull(request.getCapturedBody());
+    }
+
+    private MockHttpServletRequest mockRequest(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/customers");
+        request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
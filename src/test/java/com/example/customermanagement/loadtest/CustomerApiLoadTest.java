@@ -0,0 +1,111 @@
+package com.example.customermanagement.loadtest;
+
+import com.example.customermanagement.CustomerManagementApplication;
+import com.example.customermanagement.loadtest.LoadGenerator.Operation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives a mix of customer and audit calls through the full stack at a target rate and reports
+ * throughput and latency percentiles per endpoint, as a table on standard output and as JSON.
+ * Excluded from the default build; run with {@code mvn -Phttp-load-test test} and tune it with
+ * the {@code loadtest.*} properties.
+ */
+@Tag("load")
+class CustomerApiLoadTest {
+
+    @Test
+    @DisplayName("Given request mix at target rate_When driven through the full stack_Then no request fails")
+    void givenRequestMixAtTargetRate_WhenDrivenThroughTheFullStack_ThenNoRequestFails() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CustomerManagementApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + settings.virtualThreads(),
+                        "spring.datasource.url=jdbc:h2:mem:customer-api-load-test",
+                        "spring.jpa.show-sql=false",
+                        "spring.h2.console.enabled=false")
+                .run();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .executor(clients)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            LoadGenerator generator = new LoadGenerator(httpClient, URI.create("http://localhost:" + port),
+                    objectMapper, settings.mix());
+
+            generator.seed(settings.seedCustomers());
+            generator.run(settings.rate(), settings.warmup(), settings.maxInFlight(), clients);
+            LoadReport report = generator.run(settings.rate(), settings.duration(), settings.maxInFlight(), clients);
+
+            System.out.print(report.toText());
+            Files.createDirectories(settings.reportFile().toAbsolutePath().getParent());
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(settings.reportFile().toFile(), report);
+            System.out.println("Report written to " + settings.reportFile().toAbsolutePath());
+
+            assertEquals(0, report.errors());
+            assertTrue(report.throughput() >= settings.minThroughput(),
+                    "Throughput %.1f requests/s is below the minimum of %.1f"
+                            .formatted(report.throughput(), settings.minThroughput()));
+        }
+    }
+
+    private record LoadTestSettings(double rate, Duration duration, Duration warmup, int maxInFlight,
+                                    int seedCustomers, Map<Operation, Integer> mix, boolean virtualThreads,
+                                    Path reportFile, double minThroughput) {
+
+        private static LoadTestSettings fromSystemProperties() {
+            return new LoadTestSettings(
+                    Double.parseDouble(property("rate", "200")),
+                    Duration.ofSeconds(Long.parseLong(property("duration-seconds", "30"))),
+                    Duration.ofSeconds(Long.parseLong(property("warmup-seconds", "5"))),
+                    Integer.parseInt(property("max-in-flight", "256")),
+                    Integer.parseInt(property("seed-customers", "500")),
+                    parseMix(property("mix", "create=15,get=35,list=20,update=15,delete=5,audit-list=10")),
+                    Boolean.parseBoolean(property("virtual-threads", "false")),
+                    Path.of(property("report-file", "target/load-test/customer-api-load.json")),
+                    Double.parseDouble(property("min-throughput", "150")));
+        }
+
+        private static String property(String name, String defaultValue) {
+            String value = System.getProperty("loadtest." + name);
+            return value == null || value.isBlank() ? defaultValue : value;
+        }
+
+        /**
+         * Parses weights such as {@code create=15,get=35}; operations left out are not sent.
+         */
+        private static Map<Operation, Integer> parseMix(String mix) {
+            Map<Operation, Integer> weights = new LinkedHashMap<>();
+            for (String entry : mix.split(",")) {
+                String[] parts = entry.split("=", 2);
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+                }
+                weights.put(Operation.fromKey(parts[0]), Integer.parseInt(parts[1].trim()));
+            }
+            return weights;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.customermanagement.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects the latency and outcome of every request to one endpoint. All samples are kept, so
+ * percentiles are exact rather than bucketed; a load test run holds at most a few hundred
+ * thousand of them.
+ */
+final class LatencyRecorder {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private int clientErrors;
+    private int errors;
+
+    synchronized void record(long latencyNanos, int statusCode) {
+        add(latencyNanos);
+        if (statusCode >= 500) {
+            errors++;
+        } else if (statusCode >= 400) {
+            clientErrors++;
+        }
+    }
+
+    synchronized void recordFailure(long latencyNanos) {
+        add(latencyNanos);
+        errors++;
+    }
+
+    synchronized EndpointStats stats(String endpoint, double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new EndpointStats(
+                endpoint,
+                count,
+                clientErrors,
+                errors,
+                count / elapsedSeconds,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.90),
+                percentile(sorted, 0.99),
+                percentile(sorted, 0.999),
+                sorted.length > 0 ? sorted[sorted.length - 1] / NANOS_PER_MILLI : 0);
+    }
+
+    private void add(long latencyNanos) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+    }
+
+    /**
+     * Nearest-rank percentile in milliseconds.
+     */
+    static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Outcome of one endpoint: client errors are 4xx responses, which concurrent deletes make
+     * unavoidable for reads and updates of random customers; errors are 5xx responses and
+     * requests that got no response at all.
+     */
+    record EndpointStats(String endpoint, int requests, int clientErrors, int errors, double throughput,
+                         double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {}
+}
@@ -0,0 +1,237 @@
+package com.example.customermanagement.loadtest;
+
+import com.example.customermanagement.loadtest.LatencyRecorder.EndpointStats;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Open-loop load generator for the customer and audit API. Requests are started at a fixed
+ * rate whatever the response times, and each latency is measured from the moment its request
+ * was due rather than from when it was sent, so a stalled server shows up in the percentiles
+ * instead of silently lowering the request rate. At most {@code maxInFlight} requests are
+ * outstanding; beyond that the schedule falls behind and the achieved throughput drops below
+ * the target rate, which makes a rate above capacity a measure of capacity.
+ */
+class LoadGenerator {
+
+    enum Operation {
+        CREATE,
+        GET,
+        LIST,
+        UPDATE,
+        DELETE,
+        AUDIT_LIST;
+
+        String key() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+
+        static Operation fromKey(String key) {
+            return valueOf(key.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    private static final String CUSTOMER_JSON_TEMPLATE =
+            "{\"name\":\"Load Test %d\",\"age\":%d,\"dateOfBirth\":\"1990-01-01\",\"address\":\"123 Street\",\"gender\":\"M\"}";
+
+    private final HttpClient httpClient;
+    private final URI customersUri;
+    private final URI auditEntriesUri;
+    private final ObjectMapper objectMapper;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final CustomerIds customerIds = new CustomerIds();
+    private final AtomicLong customerSequence = new AtomicLong();
+
+    LoadGenerator(HttpClient httpClient, URI baseUri, ObjectMapper objectMapper, Map<Operation, Integer> mix) {
+        this.httpClient = httpClient;
+        this.customersUri = baseUri.resolve("/api/customers");
+        this.auditEntriesUri = baseUri.resolve("/api/audit-entries");
+        this.objectMapper = objectMapper;
+        this.operations = mix.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += mix.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Request mix must have a positive total weight: " + mix);
+        }
+    }
+
+    /**
+     * Creates customers one by one so that reads, updates and deletes have ids to pick from.
+     */
+    void seed(int customers) throws IOException, InterruptedException {
+        for (int i = 0; i < customers; i++) {
+            HttpResponse<String> response = httpClient.send(createRequest(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding customers failed with status " + response.statusCode());
+            }
+            rememberCreatedCustomer(response);
+        }
+    }
+
+    LoadReport run(double rate, Duration duration, int maxInFlight, ExecutorService executor)
+            throws InterruptedException {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : operations) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        recorders.putIfAbsent(Operation.CREATE, new LatencyRecorder());
+
+        long intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / rate));
+        long requests = duration.toNanos() / intervalNanos;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long started = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            long due = started + i * intervalNanos;
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            inFlight.acquire();
+            Operation operation = nextOperation();
+            executor.execute(() -> {
+                try {
+                    execute(operation, due, recorders);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+        inFlight.acquire(maxInFlight);
+        inFlight.release(maxInFlight);
+        double elapsedSeconds = (System.nanoTime() - started) / (double) TimeUnit.SECONDS.toNanos(1);
+
+        List<EndpointStats> endpoints = new ArrayList<>();
+        recorders.forEach((operation, recorder) -> endpoints.add(recorder.stats(operation.key(), elapsedSeconds)));
+        return LoadReport.of(rate, elapsedSeconds, endpoints);
+    }
+
+    private Operation nextOperation() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (pick >= cumulativeWeights[index]) {
+            index++;
+        }
+        return operations[index];
+    }
+
+    /**
+     * Sends one request. Reads, updates and deletes fall back to a create while no customer is
+     * left to pick, and are then recorded as creates.
+     */
+    private void execute(Operation operation, long due, Map<Operation, LatencyRecorder> recorders) {
+        Long customerId = switch (operation) {
+            case GET, UPDATE -> customerIds.any();
+            case DELETE -> customerIds.take();
+            default -> null;
+        };
+        Operation sent = operation;
+        if (customerId == null && (operation == Operation.GET || operation == Operation.UPDATE
+                || operation == Operation.DELETE)) {
+            sent = Operation.CREATE;
+        }
+        HttpRequest request = switch (sent) {
+            case CREATE -> createRequest();
+            case GET -> HttpRequest.newBuilder(customerUri(customerId)).GET().build();
+            case LIST -> HttpRequest.newBuilder(URI.create(customersUri + "?page=0&size=20&count=none")).GET().build();
+            case UPDATE -> HttpRequest.newBuilder(customerUri(customerId))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(customerJson()))
+                    .build();
+            case DELETE -> HttpRequest.newBuilder(customerUri(customerId)).DELETE().build();
+            case AUDIT_LIST -> HttpRequest.newBuilder(URI.create(auditEntriesUri + "?page=0&size=100&count=none"))
+                    .GET()
+                    .build();
+        };
+        LatencyRecorder recorder = recorders.get(sent);
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            recorder.recordFailure(System.nanoTime() - due);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        recorder.record(System.nanoTime() - due, response.statusCode());
+        if (sent == Operation.CREATE && response.statusCode() == 201) {
+            rememberCreatedCustomer(response);
+        }
+    }
+
+    private HttpRequest createRequest() {
+        return HttpRequest.newBuilder(customersUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(customerJson()))
+                .build();
+    }
+
+    private String customerJson() {
+        long sequence = customerSequence.incrementAndGet();
+        return CUSTOMER_JSON_TEMPLATE.formatted(sequence, 18 + (int) (sequence % 60));
+    }
+
+    private URI customerUri(Long customerId) {
+        return URI.create(customersUri + "/" + customerId);
+    }
+
+    private void rememberCreatedCustomer(HttpResponse<String> response) {
+        try {
+            JsonNode customer = objectMapper.readTree(response.body());
+            customerIds.add(customer.get("id").asLong());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Created customer could not be read", e);
+        }
+    }
+
+    /**
+     * Ids of customers that exist, as far as the generator knows; a deleted id is taken out
+     * before its delete is sent, so no two deletes race for one customer.
+     */
+    private static final class CustomerIds {
+
+        private final List<Long> ids = new ArrayList<>();
+
+        synchronized void add(long id) {
+            ids.add(id);
+        }
+
+        synchronized Long any() {
+            return ids.isEmpty() ? null : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        }
+
+        synchronized Long take() {
+            if (ids.isEmpty()) {
+                return null;
+            }
+            int index = ThreadLocalRandom.current().nextInt(ids.size());
+            Long id = ids.get(index);
+            ids.set(index, ids.get(ids.size() - 1));
+            ids.remove(ids.size() - 1);
+            return id;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.customermanagement.loadtest;
+
+import com.example.customermanagement.loadtest.LatencyRecorder.EndpointStats;
+
+import java.util.List;
+
+/**
+ * Result of one load test run: overall throughput and the latency percentiles of every
+ * endpoint. Serialized as is for the machine-readable report.
+ */
+record LoadReport(double targetRate, double durationSeconds, long requests, long clientErrors, long errors,
+                  double throughput, List<EndpointStats> endpoints) {
+
+    static LoadReport of(double targetRate, double durationSeconds, List<EndpointStats> endpoints) {
+        long requests = endpoints.stream().mapToLong(EndpointStats::requests).sum();
+        long clientErrors = endpoints.stream().mapToLong(EndpointStats::clientErrors).sum();
+        long errors = endpoints.stream().mapToLong(EndpointStats::errors).sum();
+        return new LoadReport(targetRate, durationSeconds, requests, clientErrors, errors,
+                requests / durationSeconds, endpoints);
+    }
+
+    String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("target %.1f requests/s, achieved %.1f requests/s over %.1f s%n",
+                targetRate, throughput, durationSeconds));
+        text.append(String.format("%-12s %9s %7s %7s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "4xx", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms"));
+        for (EndpointStats stats : endpoints) {
+            text.append(String.format("%-12s %9d %7d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    stats.endpoint(), stats.requests(), stats.clientErrors(), stats.errors(), stats.throughput(),
+                    stats.p50Ms(), stats.p90Ms(), stats.p99Ms(), stats.p999Ms(), stats.maxMs()));
+        }
+        return text.toString();
+    }
+}
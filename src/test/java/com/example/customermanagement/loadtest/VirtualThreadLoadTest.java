@@ -0,0 +1,122 @@
+package com.example.customermanagement.loadtest;
+
+import com.example.customermanagement.CustomerManagementApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the same concurrent create/list workload against the application in platform-thread
+ * and virtual-thread mode and compares throughput and the peak number of platform threads.
+ * Excluded from the default build; run with {@code mvn -Pload-test test}.
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final int CONCURRENCY = 200;
+    private static final int REQUESTS_PER_CLIENT = 50;
+    private static final int WARMUP_REQUESTS_PER_CLIENT = 5;
+    private static final String CUSTOMER_JSON =
+            "{\"name\":\"John\",\"age\":30,\"dateOfBirth\":\"1993-01-01\",\"address\":\"123 Street\",\"gender\":\"M\"}";
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("Given concurrent clients_When run in virtual-thread mode_Then fewer platform threads are used")
+    void givenConcurrentClients_WhenRunInVirtualThreadMode_ThenFewerPlatformThreadsAreUsed() throws Exception {
+        LoadResult platform = run(false);
+        LoadResult virtual = run(true);
+
+        System.out.printf("%-10s %12s %14s %10s%n", "mode", "requests/s", "peak threads", "failures");
+        System.out.printf("%-10s %12.1f %14d %10d%n", "platform", platform.throughput(), platform.peakThreads(), platform.failures());
+        System.out.printf("%-10s %12.1f %14d %10d%n", "virtual", virtual.throughput(), virtual.peakThreads(), virtual.failures());
+
+        assertEquals(0, platform.failures());
+        assertEquals(0, virtual.failures());
+        assertTrue(virtual.peakThreads() < platform.peakThreads());
+    }
+
+    private LoadResult run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CustomerManagementApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:load-test-" + mode,
+                        "spring.jpa.show-sql=false",
+                        "spring.h2.console.enabled=false")
+                .run();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .executor(clients)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            URI customersUri = URI.create("http://localhost:" + port + "/api/customers");
+
+            drive(clients, httpClient, customersUri, WARMUP_REQUESTS_PER_CLIENT);
+
+            threadMXBean.resetPeakThreadCount();
+            long started = System.nanoTime();
+            int failures = drive(clients, httpClient, customersUri, REQUESTS_PER_CLIENT);
+            double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+            return new LoadResult(
+                    CONCURRENCY * REQUESTS_PER_CLIENT * 2 / elapsedSeconds,
+                    threadMXBean.getPeakThreadCount(),
+                    failures);
+        }
+    }
+
+    private int drive(ExecutorService clients, HttpClient httpClient, URI customersUri, int requestsPerClient)
+            throws Exception {
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(CONCURRENCY);
+        for (int client = 0; client < CONCURRENCY; client++) {
+            futures.add(clients.submit(() -> {
+                for (int i = 0; i < requestsPerClient; i++) {
+                    HttpRequest create = HttpRequest.newBuilder(customersUri)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(CUSTOMER_JSON))
+                            .build();
+                    HttpRequest list = HttpRequest.newBuilder(URI.create(customersUri + "?count=none"))
+                            .GET()
+                            .build();
+                    for (HttpRequest request : List.of(create, list)) {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() >= 400) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return failures.get();
+    }
+
+    private record LoadResult(double throughput, int peakThreads, int failures) {}
+}
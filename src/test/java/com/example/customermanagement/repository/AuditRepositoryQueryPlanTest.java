@@ -0,0 +1,158 @@
+package com.example.customermanagement.repository;
+
+import com.example.customermanagement.dto.AuditEntryFilter;
+import com.example.customermanagement.model.AuditEntry;
+import com.example.customermanagement.utils.PartitionGranularity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Explains the SQL that Hibernate generates for the filtered audit listing, captured with a
+ * {@link StatementInspector}, so the plans follow any change to the specification.
+ */
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.customermanagement.repository.AuditRepositoryQueryPlanTest$CapturingStatementInspector")
+class AuditRepositoryQueryPlanTest {
+
+    private static final String[] ACTIONS = {"CREATE", "UPDATE", "DELETE"};
+    private static final String[] STATUSES = {"SUCCESS", "FAILED"};
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final Pageable PAGEABLE = PageRequest.of(0, 100, Sort.by(Sort.Direction.DESC, "creationDatetime"));
+
+    @Autowired
+    private AuditRepository auditRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        List<AuditEntry> auditEntries = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            auditEntries.add(AuditEntry.builder()
+                    .action(ACTIONS[i % ACTIONS.length])
+                    .customerId((long) (i % 200))
+                    .status(STATUSES[i % STATUSES.length])
+                    .creationDatetime(START.plusMinutes(i))
+                    .bucket(START.plusMinutes(i).toLocalDate())
+                    .build());
+        }
+        auditRepository.saveAll(auditEntries);
+        entityManager.flush();
+        entityManager.createNativeQuery("ANALYZE").executeUpdate();
+    }
+
+    /**
+     * Runs the filtered listing and explains the SELECT it issued. The specification binds one
+     * parameter per predicate in the order given; the remaining parameters are pagination.
+     */
+    private String explainListing(AuditEntryFilter filter, Object... predicateValues) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        auditRepository.findAllBy(AuditEntrySpecifications.matching(filter, PartitionGranularity.DAILY), PAGEABLE);
+        String sql = CapturingStatementInspector.STATEMENTS.stream()
+                .filter(statement -> statement.toLowerCase(Locale.ROOT).startsWith("select"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 0; i < parameterCount; i++) {
+                    statement.setObject(i + 1, i < predicateValues.length ? predicateValues[i] : PAGEABLE.getPageSize());
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1).toUpperCase(Locale.ROOT);
+                }
+            }
+        });
+    }
+
+    @Nested
+    @DisplayName("Tests for audit entry filter query plans")
+    class FilterQueryPlanTests {
+
+        @Test
+        @DisplayName("Given customerId and creationDatetime range filter_When query is explained_Then customer index is used")
+        void givenCustomerIdAndCreationDatetimeRangeFilter_WhenQueryIsExplained_ThenCustomerIndexIsUsed() {
+            LocalDateTime from = START;
+            LocalDateTime to = START.plusDays(1);
+            AuditEntryFilter filter = AuditEntryFilter.builder().customerId(42L).from(from).to(to).build();
+
+            String plan = explainListing(filter,
+                    42L, from.toLocalDate(), from, to.toLocalDate(), to);
+
+            assertTrue(plan.contains("IDX_AUDIT_ENTRIES_CUSTOMER_CREATED"), plan);
+        }
+
+        @Test
+        @DisplayName("Given action and status filter_When query is explained_Then action status index is used")
+        void givenActionAndStatusFilter_WhenQueryIsExplained_ThenActionStatusIndexIsUsed() {
+            AuditEntryFilter filter = AuditEntryFilter.builder().action("DELETE").status("FAILED").from(START).build();
+
+            String plan = explainListing(filter, "DELETE", "FAILED", START.toLocalDate(), START);
+
+            assertTrue(plan.contains("IDX_AUDIT_ENTRIES_ACTION_STATUS_CREATED"), plan);
+        }
+
+        @Test
+        @DisplayName("Given action filter only_When query is explained_Then action status index is used")
+        void givenActionFilterOnly_WhenQueryIsExplained_ThenActionStatusIndexIsUsed() {
+            AuditEntryFilter filter = AuditEntryFilter.builder().action("UPDATE").build();
+
+            String plan = explainListing(filter, "UPDATE");
+
+            assertTrue(plan.contains("IDX_AUDIT_ENTRIES_ACTION_STATUS_CREATED"), plan);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for deleteExpired method")
+    class DeleteExpiredTests {
+
+        @Test
+        @DisplayName("Given bucket before cutoff holding unexpired entries_When deleteExpired_Then only expired entries are deleted")
+        void givenBucketBeforeCutoffHoldingUnexpiredEntries_WhenDeleteExpired_ThenOnlyExpiredEntriesAreDeleted() {
+            LocalDateTime expiry = START.plusHours(12);
+
+            int deleted = auditRepository.deleteExpired(START.toLocalDate().plusDays(1), expiry);
+
+            assertEquals(720, deleted);
+            assertEquals(2000 - 720, auditRepository.count());
+        }
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
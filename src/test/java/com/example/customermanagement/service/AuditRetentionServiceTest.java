@@ -0,0 +1,63 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.config.AuditPartitionProperties;
+import com.example.customermanagement.utils.PartitionGranularity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AuditRetentionServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-10-17T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime EXPIRY = LocalDateTime.of(2024, 9, 17, 12, 0);
+
+    @Mock
+    private AuditService auditService;
+
+    private AuditPartitionProperties properties;
+    private AuditRetentionService auditRetentionService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuditPartitionProperties();
+        properties.setRetention(Duration.ofDays(30));
+        auditRetentionService = new AuditRetentionService(auditService, properties, CLOCK);
+    }
+
+    @Nested
+    @DisplayName("Tests for deleteExpiredEntries method")
+    class DeleteExpiredEntriesTests {
+
+        @Test
+        @DisplayName("Given daily granularity_When deleteExpiredEntries_Then buckets before the day of the retention boundary are deleted")
+        void givenDailyGranularity_WhenDeleteExpiredEntries_ThenBucketsBeforeTheDayOfTheRetentionBoundaryAreDeleted() {
+            auditRetentionService.deleteExpiredEntries();
+
+            verify(auditService).deleteExpiredEntries(LocalDate.of(2024, 9, 17), EXPIRY);
+        }
+
+        @Test
+        @DisplayName("Given weekly granularity_When deleteExpiredEntries_Then cutoff is the start of the week")
+        void givenWeeklyGranularity_WhenDeleteExpiredEntries_ThenCutoffIsTheStartOfTheWeek() {
+            properties.setGranularity(PartitionGranularity.WEEKLY);
+
+            auditRetentionService.deleteExpiredEntries();
+
+            verify(auditService).deleteExpiredEntries(LocalDate.of(2024, 9, 16), EXPIRY);
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.example.customermanagement.service;
 
+import com.example.customermanagement.config.AuditCompressionProperties;
+import com.example.customermanagement.config.AuditPartitionProperties;
 import com.example.customermanagement.dto.AuditEntryDTO;
+import com.example.customermanagement.dto.AuditEntryFilter;
 import com.example.customermanagement.exception.InvalidSortParameterException;
 import com.example.customermanagement.mapper.AuditMapper;
 import com.example.customermanagement.model.AuditEntry;
+import com.example.customermanagement.model.PayloadCodec;
 import com.example.customermanagement.repository.AuditRepository;
+import com.example.customermanagement.utils.PayloadCompression;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,7 +22,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -26,8 +33,13 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -45,34 +57,27 @@ class AuditServiceTest {
 
     @BeforeEach
     void setUp() {
-        auditService = new AuditService(auditRepository, auditMapper);
+        auditService = new AuditService(auditRepository, auditMapper, new AuditPartitionProperties(),
+                new AuditCompressionProperties());
     }
 
     @Nested
-    @DisplayName("Tests for createAuditEntry method")
-    class CreateAuditEntryTests {
+    @DisplayName("Tests for saveAuditEntries method")
+    class SaveAuditEntriesTests {
 
         @Test
-        @DisplayName("Given valid parameters_When createAuditEntry_Then audit entry is created and saved successfully")
-        void givenValidParameters_WhenCreateAuditEntry_ThenAuditEntryIsCreatedAndSavedSuccessfully() {
-            String action = "CREATE";
-            Long customerId = 1L;
-            String request = "Initial request";
-            String status = "SUCCESS";
-
-            ArgumentCaptor<AuditEntry> auditEntryCaptor = ArgumentCaptor.forClass(AuditEntry.class);
-
-            auditService.createAuditEntry(action, customerId, request, status);
-
-            verify(auditRepository).save(auditEntryCaptor.capture());
-            AuditEntry savedAuditEntry = auditEntryCaptor.getValue();
-
-            assertNotNull(savedAuditEntry);
-            assertEquals(action, savedAuditEntry.getAction());
-            assertEquals(customerId, savedAuditEntry.getCustomerId());
-            assertEquals(request, savedAuditEntry.getRequest());
-            assertEquals(status, savedAuditEntry.getStatus());
-            assertNotNull(savedAuditEntry.getCreationDatetime());
+        @DisplayName("Given audit entry_When saveAuditEntries_Then audit entry is saved with its bucket")
+        void givenAuditEntry_WhenSaveAuditEntries_ThenAuditEntryIsSavedWithItsBucket() {
+            AuditEntry auditEntry = auditEntry(1L, "Initial request");
+
+            auditService.saveAuditEntries(List.of(auditEntry));
+
+            AuditEntry savedAuditEntry = captureSavedAuditEntry();
+            assertEquals("CREATE", savedAuditEntry.getAction());
+            assertEquals(1L, savedAuditEntry.getCustomerId());
+            assertEquals("Initial request", savedAuditEntry.getRequest());
+            assertEquals("SUCCESS", savedAuditEntry.getStatus());
+            assertEquals(savedAuditEntry.getCreationDatetime().toLocalDate(), savedAuditEntry.getBucket());
         }
     }
 
@@ -195,4 +200,131 @@ class AuditServiceTest {
             verifyNoInteractions(auditMapper);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Tests for getAuditEntries method with count mode")
+    class GetAuditEntriesWithCountModeTests {
+
+        @Test
+        @DisplayName("Given count mode cached_When audit entries are saved_Then total is maintained without recounting")
+        void givenCountModeCached_WhenAuditEntriesAreSaved_ThenTotalIsMaintainedWithoutRecounting() {
+            Pageable pageable = PageRequest.of(0, 100, Sort.by("creationDatetime").descending());
+
+            when(auditRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
+            when(auditRepository.count()).thenReturn(10L);
+
+            Page<AuditEntryDTO> initial = (Page<AuditEntryDTO>) auditService.getAuditEntries(0, 100, "creationDatetime", "desc", "cached");
+            auditService.saveAuditEntries(List.of(new AuditEntry()));
+            auditService.saveAuditEntries(List.of(new AuditEntry(), new AuditEntry()));
+            Page<AuditEntryDTO> updated = (Page<AuditEntryDTO>) auditService.getAuditEntries(0, 100, "creationDatetime", "desc", "cached");
+
+            assertEquals(10, initial.getTotalElements());
+            assertEquals(13, updated.getTotalElements());
+            verify(auditRepository, times(1)).count();
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for getAuditEntries method with filter")
+    class GetAuditEntriesWithFilterTests {
+
+        @Test
+        @DisplayName("Given customerId filter and count mode none_When getAuditEntries_Then query by specification without counting")
+        void givenCustomerIdFilterAndCountModeNone_WhenGetAuditEntries_ThenQueryBySpecificationWithoutCounting() {
+            Pageable pageable = PageRequest.of(0, 100, Sort.by("creationDatetime").descending());
+            AuditEntryFilter filter = AuditEntryFilter.builder().customerId(1L).build();
+
+            when(auditRepository.findAllBy(any(Specification.class), eq(pageable)))
+                    .thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
+
+            auditService.getAuditEntries(filter, 0, 100, "creationDatetime", "desc", "none");
+
+            verify(auditRepository, never()).findAllBy(pageable);
+            verify(auditRepository, never()).count();
+        }
+
+        @Test
+        @DisplayName("Given action filter and count mode cached_When getAuditEntries_Then filtered total is counted exactly")
+        void givenActionFilterAndCountModeCached_WhenGetAuditEntries_ThenFilteredTotalIsCountedExactly() {
+            Pageable pageable = PageRequest.of(0, 100, Sort.by("creationDatetime").descending());
+            AuditEntryFilter filter = AuditEntryFilter.builder().action("DELETE").build();
+
+            when(auditRepository.findAll(any(Specification.class), eq(pageable)))
+                    .thenReturn(new PageImpl<>(Collections.emptyList(), pageable, 0));
+
+            Page<AuditEntryDTO> result = (Page<AuditEntryDTO>) auditService.getAuditEntries(filter, 0, 100, "creationDatetime", "desc", "cached");
+
+            assertEquals(0, result.getTotalElements());
+            verify(auditRepository, never()).count();
+        }
+
+        @Test
+        @DisplayName("Given empty filter_When getAuditEntries_Then unfiltered query is used")
+        void givenEmptyFilter_WhenGetAuditEntries_ThenUnfilteredQueryIsUsed() {
+            Pageable pageable = PageRequest.of(0, 100, Sort.by("creationDatetime").descending());
+
+            when(auditRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
+
+            auditService.getAuditEntries(new AuditEntryFilter(), 0, 100, "creationDatetime", "desc", "none");
+
+            verify(auditRepository, times(1)).findAllBy(pageable);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for audit request compression")
+    class AuditRequestCompressionTests {
+
+        @Test
+        @DisplayName("Given request above threshold_When saveAuditEntries_Then request is stored deflated and decompresses to the original")
+        void givenRequestAboveThreshold_WhenSaveAuditEntries_ThenRequestIsStoredDeflatedAndDecompressesToTheOriginal() {
+            String request = "{\"customers\":[" + "{\"name\":\"John\",\"age\":30,\"address\":\"123MainSt\"},".repeat(100) + "{}]}";
+
+            auditService.saveAuditEntries(List.of(auditEntry(null, request)));
+
+            AuditEntry savedAuditEntry = captureSavedAuditEntry();
+            assertEquals(PayloadCodec.DEFLATE, savedAuditEntry.getRequestCodec());
+            assertNull(savedAuditEntry.getRequest());
+            assertTrue(savedAuditEntry.getRequestData().length < request.length());
+            assertEquals(request, PayloadCompression.decompressRequest(savedAuditEntry));
+        }
+
+        @Test
+        @DisplayName("Given request below threshold_When saveAuditEntries_Then request is stored as plain text")
+        void givenRequestBelowThreshold_WhenSaveAuditEntries_ThenRequestIsStoredAsPlainText() {
+            String request = "{\"name\":\"John\",\"age\":30}";
+
+            auditService.saveAuditEntries(List.of(auditEntry(1L, request)));
+
+            AuditEntry savedAuditEntry = captureSavedAuditEntry();
+            assertEquals(PayloadCodec.PLAIN, savedAuditEntry.getRequestCodec());
+            assertEquals(request, savedAuditEntry.getRequest());
+            assertNull(savedAuditEntry.getRequestData());
+        }
+
+        @Test
+        @DisplayName("Given legacy entry without codec_When decompressRequest_Then plain request is returned")
+        void givenLegacyEntryWithoutCodec_WhenDecompressRequest_ThenPlainRequestIsReturned() {
+            AuditEntry legacyEntry = AuditEntry.builder().request("{\"name\":\"John\"}").build();
+
+            assertEquals("{\"name\":\"John\"}", PayloadCompression.decompressRequest(legacyEntry));
+        }
+    }
+
+    private static AuditEntry auditEntry(Long customerId, String request) {
+        return AuditEntry.builder()
+                .action("CREATE")
+                .customerId(customerId)
+                .request(request)
+                .status("SUCCESS")
+                .creationDatetime(LocalDateTime.now())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private AuditEntry captureSavedAuditEntry() {
+        ArgumentCaptor<List<AuditEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(auditRepository).saveAll(captor.capture());
+        return captor.getValue().get(0);
+    }
+}
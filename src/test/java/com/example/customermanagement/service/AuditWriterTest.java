@@ -0,0 +1,287 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.config.AuditWriterProperties;
+import com.example.customermanagement.config.AuditWriterProperties.OverflowPolicy;
+import com.example.customermanagement.model.AuditEntry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuditWriterTest {
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private CustomerChangeFeed changeFeed;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AuditWriterProperties properties;
+    private AuditWriter auditWriter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuditWriterProperties();
+        properties.setQueueCapacity(2);
+        properties.setBatchSize(10);
+        properties.setFlushInterval(Duration.ofMillis(20));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (auditWriter != null) {
+            auditWriter.stop();
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for synchronous mode")
+    class SynchronousModeTests {
+
+        @Test
+        @DisplayName("Given async disabled_When submit_Then audit entry is persisted on the calling thread")
+        void givenAsyncDisabled_WhenSubmit_ThenAuditEntryIsPersistedOnCallingThread() {
+            properties.setAsync(false);
+            auditWriter = new AuditWriter(auditService, changeFeed, properties, meterRegistry, new MockEnvironment());
+            auditWriter.start();
+
+            auditWriter.submit("CREATE", 1L, "{}", "SUCCESS");
+
+            ArgumentCaptor<List<AuditEntry>> captor = listCaptor();
+            verify(auditService).saveAuditEntries(captor.capture());
+            AuditEntry auditEntry = captor.getValue().get(0);
+            assertEquals("CREATE", auditEntry.getAction());
+            assertEquals(1L, auditEntry.getCustomerId());
+            assertEquals("{}", auditEntry.getRequest());
+            assertEquals("SUCCESS", auditEntry.getStatus());
+            assertNotNull(auditEntry.getCreationDatetime());
+            assertFalse(auditWriter.isRunning());
+        }
+
+        @Test
+        @DisplayName("Given concurrent submits_When persisted on calling threads_Then writes do not overlap")
+        void givenConcurrentSubmits_WhenPersistedOnCallingThreads_ThenWritesDoNotOverlap() throws Exception {
+            properties.setAsync(false);
+            auditWriter = new AuditWriter(auditService, changeFeed, properties, meterRegistry, new MockEnvironment());
+            CountDownLatch firstSaveStarted = new CountDownLatch(1);
+            CountDownLatch releaseFirstSave = new CountDownLatch(1);
+            AtomicBoolean overlapped = new AtomicBoolean();
+            AtomicBoolean saving = new AtomicBoolean();
+            doAnswer(invocation -> {
+                if (!saving.compareAndSet(false, true)) {
+                    overlapped.set(true);
+                }
+                firstSaveStarted.countDown();
+                releaseFirstSave.await(5, TimeUnit.SECONDS);
+                saving.set(false);
+                return null;
+            }).when(auditService).saveAuditEntries(anyList());
+
+            Thread first = new Thread(() -> auditWriter.submit("CREATE", 1L, null, "SUCCESS"));
+            first.start();
+            assertTrue(firstSaveStarted.await(5, TimeUnit.SECONDS));
+            Thread second = new Thread(() -> auditWriter.submit("CREATE", 2L, null, "SUCCESS"));
+            second.start();
+            second.join(200);
+            assertTrue(second.isAlive());
+            releaseFirstSave.countDown();
+            first.join(5000);
+            second.join(5000);
+
+            assertFalse(overlapped.get());
+            verify(auditService, times(2)).saveAuditEntries(anyList());
+            verify(changeFeed, times(2)).publish(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for asynchronous mode")
+    class AsynchronousModeTests {
+
+        @Test
+        @DisplayName("Given running writer_When submit_Then audit entry is persisted by the background thread")
+        void givenRunningWriter_WhenSubmit_ThenAuditEntryIsPersistedByBackgroundThread() throws InterruptedException {
+            CountDownLatch persisted = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                persisted.countDown();
+                return null;
+            }).when(auditService).saveAuditEntries(anyList());
+            auditWriter = new AuditWriter(auditService, changeFeed, properties, meterRegistry, new MockEnvironment());
+            auditWriter.start();
+
+            auditWriter.submit("UPDATE", 2L, null, "FAILED");
+
+            assertTrue(persisted.await(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("Given virtual threads enabled_When start_Then writer runs on a virtual thread")
+        void givenVirtualThreadsEnabled_WhenStart_ThenWriterRunsOnVirtualThread() throws InterruptedException {
+            CountDownLatch persisted = new CountDownLatch(1);
+            AtomicBoolean virtual = new AtomicBoolean();
+            doAnswer(invocation -> {
+                virtual.set(Thread.currentThread().isVirtual());
+                persisted.countDown();
+                return null;
+            }).when(auditService).saveAuditEntries(anyList());
+            MockEnvironment environment = new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true");
+            auditWriter = new AuditWriter(auditService, changeFeed, properties, meterRegistry, environment);
+            auditWriter.start();
+
+            auditWriter.submit("UPDATE", 2L, null, "SUCCESS");
+
+            assertTrue(persisted.await(5, TimeUnit.SECONDS));
+            assertTrue(virtual.get());
+        }
+
+        @Test
+        @DisplayName("Given full queue and DROP policy_When submit_Then audit entry is dropped and counted")
+        void givenFullQueueAndDropPolicy_WhenSubmit_ThenAuditEntryIsDroppedAndCounted() {
+            properties.setOverflowPolicy(OverflowPolicy.DROP);
+            startWithoutWriterThread();
+
+            auditWriter.submit("CREATE", null, null, "SUCCESS");
+            auditWriter.submit("CREATE", null, null, "SUCCESS");
+            auditWriter.submit("CREATE", null, null, "SUCCESS");
+
+            assertEquals(2, auditWriter.getQueueSize());
+            assertEquals(1, auditWriter.getDroppedCount());
+            assertEquals(1, meterRegistry.get("audit.dropped").functionCounter().count());
+            assertEquals(2, meterRegistry.get("audit.queue.size").gauge().value());
+            verifyNoInteractions(auditService);
+        }
+
+        @Test
+        @DisplayName("Given full queue and SYNC policy_When submit_Then audit entry is persisted on the calling thread")
+        void givenFullQueueAndSyncPolicy_WhenSubmit_ThenAuditEntryIsPersistedOnCallingThread() {
+            properties.setOverflowPolicy(OverflowPolicy.SYNC);
+            startWithoutWriterThread();
+
+            auditWriter.submit("DELETE", 1L, null, "SUCCESS");
+            auditWriter.submit("DELETE", 2L, null, "SUCCESS");
+            auditWriter.submit("DELETE", 3L, null, "SUCCESS");
+
+            ArgumentCaptor<List<AuditEntry>> captor = listCaptor();
+            verify(auditService).saveAuditEntries(captor.capture());
+            assertEquals(3L, captor.getValue().get(0).getCustomerId());
+            verify(changeFeed).publish(captor.getValue());
+            assertEquals(0, auditWriter.getDroppedCount());
+            assertEquals(1, meterRegistry.get("audit.persist").timer().count());
+        }
+
+        @Test
+        @DisplayName("Given change feed enabled and DROP policy_When writer is created_Then it is refused")
+        void givenChangeFeedEnabledAndDropPolicy_WhenWriterIsCreated_ThenItIsRefused() {
+            properties.setOverflowPolicy(OverflowPolicy.DROP);
+            when(changeFeed.isEnabled()).thenReturn(true);
+
+            assertThrows(IllegalStateException.class, AuditWriterTest.this::startWithoutWriterThread);
+        }
+
+        @Test
+        @DisplayName("Given change feed enabled and queue overflow_When stop_Then every change is published once")
+        void givenChangeFeedEnabledAndQueueOverflow_WhenStop_ThenEveryChangeIsPublishedOnce() {
+            properties.setOverflowPolicy(OverflowPolicy.SYNC);
+            when(changeFeed.isEnabled()).thenReturn(true);
+            startWithoutWriterThread();
+            for (long customerId = 1; customerId <= 5; customerId++) {
+                auditWriter.submit("UPDATE", customerId, null, "SUCCESS");
+            }
+
+            auditWriter.stop();
+
+            ArgumentCaptor<List<AuditEntry>> captor = listCaptor();
+            verify(changeFeed, atLeastOnce()).publish(captor.capture());
+            List<Long> customerIds = captor.getAllValues().stream()
+                    .flatMap(List::stream)
+                    .map(AuditEntry::getCustomerId)
+                    .sorted()
+                    .toList();
+            assertEquals(List.of(1L, 2L, 3L, 4L, 5L), customerIds);
+            assertEquals(0, auditWriter.getDroppedCount());
+        }
+
+        @Test
+        @DisplayName("Given queued audit entries_When stop_Then remaining entries are flushed")
+        void givenQueuedAuditEntries_WhenStop_ThenRemainingEntriesAreFlushed() {
+            properties.setOverflowPolicy(OverflowPolicy.DROP);
+            startWithoutWriterThread();
+            auditWriter.submit("CREATE", null, null, "SUCCESS");
+            auditWriter.submit("CREATE", null, null, "SUCCESS");
+
+            auditWriter.stop();
+
+            ArgumentCaptor<List<AuditEntry>> captor = listCaptor();
+            verify(auditService, times(1)).saveAuditEntries(captor.capture());
+            assertEquals(2, captor.getValue().size());
+            assertEquals(0, auditWriter.getQueueSize());
+        }
+
+        @Test
+        @DisplayName("Given submit blocked on full queue_When stop_Then blocked audit entry is still persisted")
+        void givenSubmitBlockedOnFullQueue_WhenStop_ThenBlockedAuditEntryIsStillPersisted() throws Exception {
+            properties.setOverflowPolicy(OverflowPolicy.BLOCK);
+            startWithoutWriterThread();
+            auditWriter.submit("CREATE", 1L, null, "SUCCESS");
+            auditWriter.submit("CREATE", 2L, null, "SUCCESS");
+            Thread blocked = new Thread(() -> auditWriter.submit("CREATE", 3L, null, "SUCCESS"));
+            blocked.start();
+            while (blocked.getState() != Thread.State.TIMED_WAITING) {
+                Thread.onSpinWait();
+            }
+
+            auditWriter.stop();
+            blocked.join(5000);
+
+            ArgumentCaptor<List<AuditEntry>> captor = listCaptor();
+            verify(auditService, atLeastOnce()).saveAuditEntries(captor.capture());
+            List<Long> customerIds = captor.getAllValues().stream()
+                    .flatMap(List::stream)
+                    .map(AuditEntry::getCustomerId)
+                    .sorted()
+                    .toList();
+            assertEquals(List.of(1L, 2L, 3L), customerIds);
+            assertEquals(0, auditWriter.getQueueSize());
+        }
+    }
+
+    private void startWithoutWriterThread() {
+        auditWriter = new AuditWriter(auditService, changeFeed, properties, meterRegistry,
+                runnable -> new Thread(() -> { }));
+        auditWriter.start();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<AuditEntry>> listCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.config.BulkDeleteProperties;
+import com.example.customermanagement.dto.BulkDeleteResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerBulkDeleteServiceTest {
+
+    @Mock
+    private CustomerService customerService;
+
+    @Mock
+    private AuditWriter auditWriter;
+
+    private CustomerBulkDeleteService customerBulkDeleteService;
+
+    @BeforeEach
+    void setUp() {
+        BulkDeleteProperties properties = new BulkDeleteProperties();
+        properties.setChunkSize(2);
+        customerBulkDeleteService = new CustomerBulkDeleteService(customerService, auditWriter, properties);
+    }
+
+    @Test
+    @DisplayName("Given ids with missing customers_When deleteCustomers_Then each chunk is deleted once and missing ids are reported")
+    void givenIdsWithMissingCustomers_WhenDeleteCustomers_ThenEachChunkIsDeletedOnceAndMissingIdsAreReported() {
+        when(customerService.deleteCustomers(List.of(1L, 2L))).thenReturn(List.of(1L));
+        when(customerService.deleteCustomers(List.of(3L))).thenReturn(List.of(3L));
+
+        BulkDeleteResult result = customerBulkDeleteService.deleteCustomers(List.of(1L, 2L, 3L));
+
+        assertEquals(3, result.getReceived());
+        assertEquals(2, result.getDeleted());
+        assertEquals(List.of(2L), result.getMissingIds());
+        assertEquals(List.of(), result.getFailedIds());
+        verify(auditWriter).submit("BULK_DELETE", null, "{\"ids\":[1,2],\"deleted\":1}", "SUCCESS");
+        verify(auditWriter).submit("BULK_DELETE", null, "{\"ids\":[3],\"deleted\":1}", "SUCCESS");
+    }
+
+    @Test
+    @DisplayName("Given duplicate and null ids_When deleteCustomers_Then each id is deleted once")
+    void givenDuplicateAndNullIds_WhenDeleteCustomers_ThenEachIdIsDeletedOnce() {
+        when(customerService.deleteCustomers(List.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+
+        BulkDeleteResult result = customerBulkDeleteService.deleteCustomers(Arrays.asList(1L, null, 2L, 1L));
+
+        assertEquals(4, result.getReceived());
+        assertEquals(2, result.getDeleted());
+        verify(customerService, times(1)).deleteCustomers(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Given chunk that fails to delete_When deleteCustomers_Then its ids are reported and audited as failed")
+    void givenChunkThatFailsToDelete_WhenDeleteCustomers_ThenItsIdsAreReportedAndAuditedAsFailed() {
+        when(customerService.deleteCustomers(List.of(1L, 2L))).thenThrow(new IllegalStateException("lock timeout"));
+        when(customerService.deleteCustomers(List.of(3L))).thenReturn(List.of(3L));
+
+        BulkDeleteResult result = customerBulkDeleteService.deleteCustomers(List.of(1L, 2L, 3L));
+
+        assertEquals(1, result.getDeleted());
+        assertEquals(List.of(1L, 2L), result.getFailedIds());
+        assertEquals(List.of(), result.getMissingIds());
+        verify(auditWriter).submit(eq("BULK_DELETE"), isNull(), eq("{\"ids\":[1,2],\"deleted\":0}"), eq("FAILED"));
+    }
+
+    @Test
+    @DisplayName("Given empty id list_When deleteCustomers_Then nothing is deleted or audited")
+    void givenEmptyIdList_WhenDeleteCustomers_ThenNothingIsDeletedOrAudited() {
+        BulkDeleteResult result = customerBulkDeleteService.deleteCustomers(List.of());
+
+        assertEquals(0, result.getReceived());
+        verifyNoInteractions(customerService, auditWriter);
+    }
+}
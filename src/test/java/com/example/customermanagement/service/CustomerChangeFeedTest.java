@@ -0,0 +1,193 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.config.CustomerChangeFeedProperties;
+import com.example.customermanagement.dto.AuditEntryDTO;
+import com.example.customermanagement.mapper.AuditMapper;
+import com.example.customermanagement.model.AuditEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerChangeFeedTest {
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private AuditMapper auditMapper;
+
+    private final List<CustomerChangeFeed.Subscription> subscriptions = new ArrayList<>();
+    private final CountDownLatch senderGate = new CountDownLatch(1);
+    private CustomerChangeFeedProperties properties;
+    private CustomerChangeFeed changeFeed;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CustomerChangeFeedProperties();
+        properties.setBufferSize(2);
+        properties.setBacklogPageSize(2);
+        properties.setHeartbeatInterval(Duration.ofMillis(50));
+        ThreadFactory gatedThreadFactory = runnable -> new Thread(() -> {
+            try {
+                senderGate.await();
+                runnable.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        changeFeed = new CustomerChangeFeed(auditService, auditMapper, properties, gatedThreadFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        senderGate.countDown();
+        subscriptions.forEach(CustomerChangeFeed.Subscription::close);
+    }
+
+    @Test
+    @DisplayName("Given no subscribers_When publish_Then audit entries are not mapped")
+    void givenNoSubscribers_WhenPublish_ThenAuditEntriesAreNotMapped() {
+        changeFeed.publish(List.of(auditEntry(1L, "CREATE", "SUCCESS")));
+
+        verifyNoInteractions(auditMapper);
+    }
+
+    @Test
+    @DisplayName("Given live subscriber_When publish_Then only successful customer changes are sent in order")
+    void givenLiveSubscriber_WhenPublish_ThenOnlySuccessfulCustomerChangesAreSentInOrder() throws InterruptedException {
+        mapAuditEntries();
+        RecordingSink sink = new RecordingSink(2);
+        open(null, sink);
+        senderGate.countDown();
+
+        changeFeed.publish(List.of(
+                auditEntry(1L, "CREATE", "SUCCESS"),
+                auditEntry(2L, "UPDATE", "FAILED"),
+                auditEntry(3L, "BULK_IMPORT", "SUCCESS"),
+                auditEntry(4L, "DELETE", "SUCCESS")));
+
+        assertTrue(sink.sent.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1L, 4L), sink.sentIds);
+    }
+
+    @Test
+    @DisplayName("Given Last-Event-ID_When subscribe_Then backlog is paged from audit table before live changes")
+    void givenLastEventId_WhenSubscribe_ThenBacklogIsPagedFromAuditTableBeforeLiveChanges() throws InterruptedException {
+        mapAuditEntries();
+        when(auditService.getEntriesAfter(eq(10L), eq("SUCCESS"), eq(CustomerChangeFeed.CHANGE_ACTIONS), eq(2)))
+                .thenReturn(List.of(dto(11L), dto(12L)));
+        when(auditService.getEntriesAfter(eq(12L), eq("SUCCESS"), eq(CustomerChangeFeed.CHANGE_ACTIONS), eq(2)))
+                .thenReturn(List.of(dto(13L)));
+        RecordingSink sink = new RecordingSink(4);
+        open(10L, sink);
+
+        changeFeed.publish(List.of(auditEntry(13L, "UPDATE", "SUCCESS"), auditEntry(14L, "DELETE", "SUCCESS")));
+        senderGate.countDown();
+
+        assertTrue(sink.sent.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(11L, 12L, 13L, 14L), sink.sentIds);
+    }
+
+    @Test
+    @DisplayName("Given subscriber buffer is full_When publish_Then buffered changes are sent and subscriber is disconnected")
+    void givenSubscriberBufferIsFull_WhenPublish_ThenBufferedChangesAreSentAndSubscriberIsDisconnected()
+            throws InterruptedException {
+        mapAuditEntries();
+        RecordingSink sink = new RecordingSink(2);
+        open(null, sink);
+
+        changeFeed.publish(List.of(auditEntry(1L, "CREATE", "SUCCESS"), auditEntry(2L, "CREATE", "SUCCESS")));
+        changeFeed.publish(List.of(auditEntry(3L, "CREATE", "SUCCESS")));
+
+        assertEquals(0, changeFeed.getSubscriberCount());
+
+        senderGate.countDown();
+
+        assertTrue(sink.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1L, 2L), sink.sentIds);
+    }
+
+    @Test
+    @DisplayName("Given idle subscriber_When heartbeat interval passes_Then heartbeat is sent")
+    void givenIdleSubscriber_WhenHeartbeatIntervalPasses_ThenHeartbeatIsSent() throws InterruptedException {
+        RecordingSink sink = new RecordingSink(0);
+        open(null, sink);
+        senderGate.countDown();
+
+        assertTrue(sink.heartbeat.await(5, TimeUnit.SECONDS));
+        assertEquals(1, changeFeed.getSubscriberCount());
+    }
+
+    private void open(Long lastEventId, RecordingSink sink) {
+        subscriptions.add(changeFeed.open(lastEventId, sink));
+    }
+
+    private void mapAuditEntries() {
+        when(auditMapper.toDTO(any(AuditEntry.class)))
+                .thenAnswer(invocation -> dto(invocation.<AuditEntry>getArgument(0).getId()));
+    }
+
+    private static AuditEntry auditEntry(Long id, String action, String status) {
+        return AuditEntry.builder()
+                .id(id)
+                .action(action)
+                .status(status)
+                .build();
+    }
+
+    private static AuditEntryDTO dto(Long id) {
+        return AuditEntryDTO.builder()
+                .id(id)
+                .action("UPDATE")
+                .status("SUCCESS")
+                .build();
+    }
+
+    private static final class RecordingSink implements CustomerChangeFeed.ChangeSink {
+
+        private final List<Long> sentIds = new CopyOnWriteArrayList<>();
+        private final CountDownLatch sent;
+        private final CountDownLatch heartbeat = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        private RecordingSink(int expectedChanges) {
+            this.sent = new CountDownLatch(expectedChanges);
+        }
+
+        @Override
+        public void send(AuditEntryDTO change) {
+            sentIds.add(change.getId());
+            sent.countDown();
+        }
+
+        @Override
+        public void heartbeat() {
+            heartbeat.countDown();
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+}
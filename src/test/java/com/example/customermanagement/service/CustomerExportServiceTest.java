@@ -0,0 +1,133 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.config.ExportProperties;
+import com.example.customermanagement.dto.CustomerDTO;
+import com.example.customermanagement.mapper.CustomerMapper;
+import com.example.customermanagement.model.Customer;
+import com.example.customermanagement.model.Gender;
+import com.example.customermanagement.repository.CustomerRepository;
+import com.example.customermanagement.utils.ExportFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerExportServiceTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private CustomerMapper customerMapper;
+
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    private CustomerExportService customerExportService;
+
+    @BeforeEach
+    void setUp() {
+        ExportProperties properties = new ExportProperties();
+        properties.setFetchSize(100);
+        customerExportService = new CustomerExportService(customerRepository, customerMapper,
+                new ObjectMapper(), properties);
+    }
+
+    @Test
+    @DisplayName("Given customers_When exportCustomers as NDJSON_Then one JSON object is written per line")
+    void givenCustomers_WhenExportCustomersAsNdjson_ThenOneJsonObjectIsWrittenPerLine() throws IOException {
+        Customer customer1 = defaultCustomer().id(1L).name("Alice").build();
+        Customer customer2 = defaultCustomer().id(2L).name("Bob").build();
+        AtomicBoolean closed = new AtomicBoolean();
+
+        when(customerRepository.streamAll(100)).thenReturn(Stream.of(customer1, customer2).onClose(() -> closed.set(true)));
+        when(customerMapper.toDTO(customer1)).thenReturn(CustomerDTO.builder().id(1L).name("Alice").build());
+        when(customerMapper.toDTO(customer2)).thenReturn(CustomerDTO.builder().id(2L).name("Bob").build());
+
+        customerExportService.exportCustomers(ExportFormat.NDJSON, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,\"name\":\"Alice\""));
+        assertTrue(lines[1].startsWith("{\"id\":2,\"name\":\"Bob\""));
+        assertTrue(closed.get());
+        verify(customerRepository).streamAll(100);
+    }
+
+    @Test
+    @DisplayName("Given customers_When exportCustomers as CBOR_Then one CBOR item is written per customer")
+    void givenCustomers_WhenExportCustomersAsCbor_ThenOneCborItemIsWrittenPerCustomer() throws IOException {
+        Customer customer1 = defaultCustomer().id(1L).name("Alice").build();
+        Customer customer2 = defaultCustomer().id(2L).name("Bob").build();
+
+        when(customerRepository.streamAll(100)).thenReturn(Stream.of(customer1, customer2));
+        when(customerMapper.toDTO(customer1)).thenReturn(CustomerDTO.builder().id(1L).name("Alice").build());
+        when(customerMapper.toDTO(customer2)).thenReturn(CustomerDTO.builder().id(2L).name("Bob").build());
+
+        customerExportService.exportCustomers(ExportFormat.CBOR, outputStream);
+
+        try (MappingIterator<JsonNode> items = new CBORMapper().readerFor(JsonNode.class)
+                .readValues(outputStream.toByteArray())) {
+            List<JsonNode> customers = items.readAll();
+            assertEquals(2, customers.size());
+            assertEquals("Alice", customers.get(0).get("name").asText());
+            assertEquals(2L, customers.get(1).get("id").asLong());
+        }
+    }
+
+    @Test
+    @DisplayName("Given customers with special characters_When exportCustomers as CSV_Then fields are quoted")
+    void givenCustomersWithSpecialCharacters_WhenExportCustomersAsCsv_ThenFieldsAreQuoted() throws IOException {
+        Customer customer1 = defaultCustomer().id(1L).name("Smith, \"Jr\"").build();
+        Customer customer2 = defaultCustomer().id(2L).address(null).gender(null).build();
+
+        when(customerRepository.streamAll(100)).thenReturn(Stream.of(customer1, customer2));
+
+        customerExportService.exportCustomers(ExportFormat.CSV, outputStream);
+
+        assertEquals("""
+                id,name,age,dateOfBirth,address,gender
+                1,"Smith, ""Jr""\",30,1993-01-01,123 Street,M
+                2,John,30,1993-01-01,,
+                """, outputStream.toString(StandardCharsets.UTF_8));
+        verifyNoInteractions(customerMapper);
+    }
+
+    @Test
+    @DisplayName("Given no customers_When exportCustomers as CSV_Then only the header is written")
+    void givenNoCustomers_WhenExportCustomersAsCsv_ThenOnlyTheHeaderIsWritten() throws IOException {
+        when(customerRepository.streamAll(100)).thenReturn(Stream.empty());
+
+        customerExportService.exportCustomers(ExportFormat.CSV, outputStream);
+
+        assertEquals("id,name,age,dateOfBirth,address,gender\n", outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    private Customer.CustomerBuilder defaultCustomer() {
+        return Customer.builder()
+                .name("John")
+                .age(30)
+                .dateOfBirth(LocalDate.parse("1993-01-01"))
+                .address("123 Street")
+                .gender(Gender.M);
+    }
+}
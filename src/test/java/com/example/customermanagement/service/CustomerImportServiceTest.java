@@ -0,0 +1,154 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.config.BulkImportProperties;
+import com.example.customermanagement.dto.BulkImportResult;
+import com.example.customermanagement.dto.CustomerDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerImportServiceTest {
+
+    private static final String VALID_CUSTOMER =
+            "{\"name\":\"John\",\"age\":30,\"dateOfBirth\":\"1993-01-01\",\"address\":\"123 Street\",\"gender\":\"M\"}";
+    private static final String INVALID_CUSTOMER =
+            "{\"name\":null,\"age\":-1,\"dateOfBirth\":\"1993-01-01\"}";
+
+    @Mock
+    private CustomerService customerService;
+
+    @Mock
+    private AuditWriter auditWriter;
+
+    private final List<Integer> writtenChunkSizes = new ArrayList<>();
+    private CustomerImportService customerImportService;
+
+    @BeforeEach
+    void setUp() {
+        BulkImportProperties properties = new BulkImportProperties();
+        properties.setChunkSize(2);
+        customerImportService = new CustomerImportService(customerService, auditWriter,
+                Jackson2ObjectMapperBuilder.json().build(),
+                properties);
+    }
+
+    @Test
+    @DisplayName("Given NDJSON with an invalid record_When importCustomers_Then valid records are written in chunks")
+    void givenNdjsonWithInvalidRecord_WhenImportCustomers_ThenValidRecordsAreWrittenInChunks() throws IOException {
+        recordWrittenChunkSizes();
+        String body = String.join("\n", VALID_CUSTOMER, INVALID_CUSTOMER, VALID_CUSTOMER, VALID_CUSTOMER);
+
+        BulkImportResult result = customerImportService.importCustomers(stream(body));
+
+        assertEquals(4, result.getReceived());
+        assertEquals(3, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(1, result.getErrors().get(0).getIndex());
+        assertEquals("Name cannot be null", result.getErrors().get(0).getErrors().get("name"));
+        assertEquals("Age must be a positive number", result.getErrors().get(0).getErrors().get("age"));
+        assertEquals(List.of(2, 1), writtenChunkSizes);
+        verify(auditWriter).submit("BULK_CREATE", null, "{\"firstIndex\":0,\"lastIndex\":2,\"customers\":2,\"ids\":[1,2]}",
+                "SUCCESS");
+        verify(auditWriter).submit("BULK_CREATE", null, "{\"firstIndex\":3,\"lastIndex\":3,\"customers\":1,\"ids\":[1]}",
+                "SUCCESS");
+    }
+
+    @Test
+    @DisplayName("Given JSON array_When importCustomers_Then every element is imported")
+    void givenJsonArray_WhenImportCustomers_ThenEveryElementIsImported() throws IOException {
+        recordWrittenChunkSizes();
+        String body = "[" + String.join(",", VALID_CUSTOMER, VALID_CUSTOMER, VALID_CUSTOMER) + "]";
+
+        BulkImportResult result = customerImportService.importCustomers(stream(body));
+
+        assertEquals(3, result.getReceived());
+        assertEquals(3, result.getImported());
+        assertTrue(result.getErrors().isEmpty());
+        assertEquals(List.of(2, 1), writtenChunkSizes);
+    }
+
+    @Test
+    @DisplayName("Given record with wrong field type_When importCustomers_Then record is reported and import continues")
+    void givenRecordWithWrongFieldType_WhenImportCustomers_ThenRecordIsReportedAndImportContinues() throws IOException {
+        String body = String.join("\n", "{\"name\":\"John\",\"age\":\"abc\"}", VALID_CUSTOMER);
+
+        BulkImportResult result = customerImportService.importCustomers(stream(body));
+
+        assertEquals(2, result.getReceived());
+        assertEquals(1, result.getImported());
+        assertEquals(0, result.getErrors().get(0).getIndex());
+    }
+
+    @Test
+    @DisplayName("Given malformed JSON_When importCustomers_Then import stops and records read so far are written")
+    void givenMalformedJson_WhenImportCustomers_ThenImportStopsAndRecordsReadSoFarAreWritten() throws IOException {
+        String body = String.join("\n", VALID_CUSTOMER, "{\"name\":\"John\",,}", VALID_CUSTOMER);
+
+        BulkImportResult result = customerImportService.importCustomers(stream(body));
+
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(1, result.getErrors().get(0).getIndex());
+        assertTrue(result.getErrors().get(0).getErrors().get("request").contains("Malformed JSON"));
+    }
+
+    @Test
+    @DisplayName("Given chunk that fails to persist_When importCustomers_Then its records are reported and audited as failed")
+    void givenChunkThatFailsToPersist_WhenImportCustomers_ThenItsRecordsAreReportedAndAuditedAsFailed() throws IOException {
+        doThrow(new IllegalStateException("constraint violation")).when(customerService).createCustomers(anyList());
+        String body = String.join("\n", VALID_CUSTOMER, VALID_CUSTOMER);
+
+        BulkImportResult result = customerImportService.importCustomers(stream(body));
+
+        assertEquals(0, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(List.of(0L, 1L), result.getErrors().stream().map(error -> error.getIndex()).toList());
+        verify(auditWriter).submit(eq("BULK_CREATE"), isNull(), anyString(), eq("FAILED"));
+    }
+
+    @Test
+    @DisplayName("Given empty body_When importCustomers_Then nothing is written")
+    void givenEmptyBody_WhenImportCustomers_ThenNothingIsWritten() throws IOException {
+        BulkImportResult result = customerImportService.importCustomers(stream(""));
+
+        assertEquals(0, result.getReceived());
+        verifyNoInteractions(customerService, auditWriter);
+    }
+
+    private void recordWrittenChunkSizes() {
+        doAnswer(invocation -> {
+            List<CustomerDTO> chunk = invocation.getArgument(0);
+            writtenChunkSizes.add(chunk.size());
+            return LongStream.rangeClosed(1, chunk.size()).boxed().toList();
+        }).when(customerService).createCustomers(anyList());
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.model.Customer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CustomerSearchIndexTest {
+
+    private CustomerSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new CustomerSearchIndex();
+        searchIndex.rebuild(Stream.of(
+                customer(1L, "John Smith", "123 Main Street"),
+                customer(2L, "Johanna Müller", "7 Elm Road"),
+                customer(3L, "Mark Johnson", "45 Main Street"),
+                customer(4L, "Anna Lee", "9 John Street")
+        ));
+    }
+
+    private static Customer customer(Long id, String name, String address) {
+        return Customer.builder().id(id).name(name).address(address).build();
+    }
+
+    @Nested
+    @DisplayName("Tests for search method")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Given partial name_When search_Then matches are ranked by name prefix, word prefix and address")
+        void givenPartialName_WhenSearch_ThenMatchesAreRankedByNamePrefixWordPrefixAndAddress() {
+            assertEquals(List.of(2L, 1L, 3L, 4L), searchIndex.search("joh"));
+        }
+
+        @Test
+        @DisplayName("Given substring inside a word_When search_Then customer is found")
+        void givenSubstringInsideAWord_WhenSearch_ThenCustomerIsFound() {
+            assertEquals(List.of(3L), searchIndex.search("hnso"));
+        }
+
+        @Test
+        @DisplayName("Given query with different case and accents_When search_Then customer is found")
+        void givenQueryWithDifferentCaseAndAccents_WhenSearch_ThenCustomerIsFound() {
+            assertEquals(List.of(2L), searchIndex.search("MULLER"));
+        }
+
+        @Test
+        @DisplayName("Given two character query_When search_Then only word prefixes match")
+        void givenTwoCharacterQuery_WhenSearch_ThenOnlyWordPrefixesMatch() {
+            assertEquals(List.of(4L), searchIndex.search("an"));
+        }
+
+        @Test
+        @DisplayName("Given query spanning words_When search_Then address phrase is matched")
+        void givenQuerySpanningWords_WhenSearch_ThenAddressPhraseIsMatched() {
+            assertEquals(List.of(1L, 3L), searchIndex.search("main st"));
+        }
+
+        @Test
+        @DisplayName("Given blank query_When search_Then nothing is returned")
+        void givenBlankQuery_WhenSearch_ThenNothingIsReturned() {
+            assertTrue(searchIndex.search("  ").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for index updates")
+    class IndexUpdateTests {
+
+        @Test
+        @DisplayName("Given updated customer_When index_Then old text no longer matches")
+        void givenUpdatedCustomer_WhenIndex_ThenOldTextNoLongerMatches() {
+            searchIndex.index(customer(1L, "Peter Smith", "123 Main Street"));
+
+            assertEquals(List.of(2L, 3L, 4L), searchIndex.search("joh"));
+            assertEquals(List.of(1L), searchIndex.search("peter"));
+        }
+
+        @Test
+        @DisplayName("Given removed customer_When search_Then customer is not returned")
+        void givenRemovedCustomer_WhenSearch_ThenCustomerIsNotReturned() {
+            searchIndex.remove(3L);
+
+            assertEquals(List.of(1L), searchIndex.search("main"));
+            assertEquals(3, searchIndex.size());
+        }
+    }
+}
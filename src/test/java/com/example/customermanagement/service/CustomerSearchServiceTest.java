@@ -0,0 +1,85 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.dto.CustomerDTO;
+import com.example.customermanagement.mapper.CustomerMapper;
+import com.example.customermanagement.model.Customer;
+import com.example.customermanagement.repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerSearchServiceTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private CustomerMapper customerMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CustomerSearchService customerSearchService;
+
+    private final Customer john = Customer.builder().id(1L).name("John Smith").address("1 Main Street").build();
+    private final Customer johanna = Customer.builder().id(2L).name("Johanna Lee").address("2 Elm Road").build();
+    private final Customer mark = Customer.builder().id(3L).name("Mark Johnson").address("3 Main Street").build();
+
+    @BeforeEach
+    void setUp() {
+        CustomerSearchIndex searchIndex = new CustomerSearchIndex();
+        searchIndex.rebuild(Stream.of(john, johanna, mark));
+        customerSearchService = new CustomerSearchService(customerRepository, customerMapper, searchIndex,
+                transactionManager);
+    }
+
+    private static CustomerDTO toDTO(Customer customer) {
+        return CustomerDTO.builder().id(customer.getId()).name(customer.getName()).build();
+    }
+
+    @Nested
+    @DisplayName("Tests for searchCustomers method")
+    class SearchCustomersTests {
+
+        @Test
+        @DisplayName("Given matching customers_When searchCustomers_Then page is fetched once and returned in rank order")
+        void givenMatchingCustomers_WhenSearchCustomers_ThenPageIsFetchedOnceAndReturnedInRankOrder() {
+            when(customerRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(john, johanna));
+            when(customerMapper.toDTO(any(Customer.class))).thenAnswer(invocation -> toDTO(invocation.getArgument(0)));
+
+            Page<CustomerDTO> result = customerSearchService.searchCustomers("joh", 0, 2);
+
+            assertEquals(List.of(2L, 1L), result.getContent().stream().map(CustomerDTO::getId).toList());
+            assertEquals(3, result.getTotalElements());
+            verify(customerRepository, times(1)).findAllById(List.of(2L, 1L));
+        }
+
+        @Test
+        @DisplayName("Given page beyond results_When searchCustomers_Then no query is run")
+        void givenPageBeyondResults_WhenSearchCustomers_ThenNoQueryIsRun() {
+            Page<CustomerDTO> result = customerSearchService.searchCustomers("joh", 5, 2);
+
+            assertTrue(result.getContent().isEmpty());
+            assertEquals(3, result.getTotalElements());
+            verify(customerRepository, never()).findAllById(any());
+        }
+    }
+}
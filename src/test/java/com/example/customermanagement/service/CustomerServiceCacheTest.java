@@ -0,0 +1,196 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.config.CacheConfig;
+import com.example.customermanagement.dto.CustomerDTO;
+import com.example.customermanagement.mapper.CustomerMapper;
+import com.example.customermanagement.mapper.CustomerPatchMapper;
+import com.example.customermanagement.model.Customer;
+import com.example.customermanagement.repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+class CustomerServiceCacheTest {
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import(CacheConfig.class)
+    static class TestConfig {
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new DataSourceTransactionManager(
+                    new DriverManagerDataSource("jdbc:h2:mem:customer-service-cache-test", "sa", ""));
+        }
+
+        @Bean
+        CustomerRepository customerRepository() {
+            return mock(CustomerRepository.class);
+        }
+
+        @Bean
+        CustomerMapper customerMapper() {
+            return mock(CustomerMapper.class);
+        }
+
+        @Bean
+        CustomerService customerService(CustomerRepository customerRepository, CustomerMapper customerMapper,
+                                        CacheManager cacheManager) {
+            return new CustomerService(customerRepository, customerMapper, mock(CustomerPatchMapper.class),
+                    new CustomerSearchIndex(), new CustomerStatistics(), cacheManager);
+        }
+    }
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerMapper customerMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Long id = 1L;
+    private final Customer customer = Customer.builder().id(id).name("John").build();
+    private final CustomerDTO customerDTO = CustomerDTO.builder().id(id).name("John").build();
+
+    @BeforeEach
+    void setUp() {
+        reset(customerRepository, customerMapper);
+        cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).clear();
+        when(customerRepository.findById(id)).thenReturn(Optional.of(customer));
+        when(customerMapper.toDTO(customer)).thenReturn(customerDTO);
+    }
+
+    @Test
+    @DisplayName("Given cached customer_When getCustomerById is called again_Then repository is not queried")
+    void givenCachedCustomer_WhenGetCustomerByIdIsCalledAgain_ThenRepositoryIsNotQueried() {
+        customerService.getCustomerById(id);
+        CustomerDTO result = customerService.getCustomerById(id);
+
+        assertEquals(customerDTO, result);
+        verify(customerRepository, times(1)).findById(id);
+        verify(customerMapper, times(1)).toDTO(customer);
+    }
+
+    @Test
+    @DisplayName("Given cached customer_When updateCustomer_Then cache entry is evicted")
+    void givenCachedCustomer_WhenUpdateCustomer_ThenCacheEntryIsEvicted() {
+        when(customerRepository.saveAndFlush(any(Customer.class))).thenReturn(customer);
+
+        customerService.getCustomerById(id);
+        customerService.updateCustomer(id, customerDTO, null);
+
+        assertNull(cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).get(id));
+        customerService.getCustomerById(id);
+        verify(customerRepository, times(3)).findById(id);
+    }
+
+    @Test
+    @DisplayName("Given cached customer_When deleteCustomer_Then cache entry is evicted")
+    void givenCachedCustomer_WhenDeleteCustomer_ThenCacheEntryIsEvicted() {
+        when(customerRepository.existsById(id)).thenReturn(true);
+
+        customerService.getCustomerById(id);
+        customerService.deleteCustomer(id, null);
+
+        assertNull(cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).get(id));
+    }
+
+    @Test
+    @DisplayName("Given cached customer_When update runs in a rolled back transaction_Then cache entry is kept")
+    void givenCachedCustomer_WhenUpdateRunsInRolledBackTransaction_ThenCacheEntryIsKept() {
+        when(customerRepository.saveAndFlush(any(Customer.class))).thenReturn(customer);
+        customerService.getCustomerById(id);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            customerService.updateCustomer(id, customerDTO, null);
+            assertNotNull(cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).get(id));
+            status.setRollbackOnly();
+        });
+
+        assertNotNull(cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).get(id));
+        customerService.getCustomerById(id);
+        verify(customerRepository, times(2)).findById(id);
+    }
+
+    @Test
+    @DisplayName("Given cached customer_When update runs in a committed transaction_Then cache entry is evicted on commit")
+    void givenCachedCustomer_WhenUpdateRunsInCommittedTransaction_ThenCacheEntryIsEvictedOnCommit() {
+        when(customerRepository.saveAndFlush(any(Customer.class))).thenReturn(customer);
+        customerService.getCustomerById(id);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            customerService.updateCustomer(id, customerDTO, null);
+            assertNotNull(cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).get(id));
+        });
+
+        assertNull(cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).get(id));
+    }
+
+    @Test
+    @DisplayName("Given cached customers_When deleteCustomers commits_Then only deleted customers are evicted")
+    void givenCachedCustomers_WhenDeleteCustomersCommits_ThenOnlyDeletedCustomersAreEvicted() {
+        Customer other = Customer.builder().id(5L).name("Jane").build();
+        when(customerRepository.findById(5L)).thenReturn(Optional.of(other));
+        when(customerMapper.toDTO(other)).thenReturn(CustomerDTO.builder().id(5L).name("Jane").build());
+        when(customerRepository.findExistingIds(List.of(id, 2L))).thenReturn(List.of(id));
+        when(customerRepository.deleteAllByIdIn(List.of(id))).thenReturn(1);
+        customerService.getCustomerById(id);
+        customerService.getCustomerById(5L);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            customerService.deleteCustomers(List.of(id, 2L));
+            assertNotNull(cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).get(id));
+        });
+
+        assertNull(cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).get(id));
+        assertNotNull(cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).get(5L));
+    }
+
+    @Test
+    @DisplayName("Given cached customer_When deleteCustomers runs in a rolled back transaction_Then cache entry is kept")
+    void givenCachedCustomer_WhenDeleteCustomersRunsInRolledBackTransaction_ThenCacheEntryIsKept() {
+        when(customerRepository.findExistingIds(List.of(id))).thenReturn(List.of(id));
+        when(customerRepository.deleteAllByIdIn(List.of(id))).thenReturn(1);
+        customerService.getCustomerById(id);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            customerService.deleteCustomers(List.of(id));
+            status.setRollbackOnly();
+        });
+
+        assertNotNull(cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).get(id));
+    }
+}
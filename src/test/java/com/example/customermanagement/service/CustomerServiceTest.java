@@ -1,35 +1,58 @@
 package com.example.customermanagement.service;
 
+import com.example.customermanagement.config.CacheConfig;
+import com.example.customermanagement.dto.BatchGetResult;
+import com.example.customermanagement.dto.CursorPage;
 import com.example.customermanagement.dto.CustomerDTO;
 import com.example.customermanagement.exception.CustomerNotFoundException;
+import com.example.customermanagement.exception.InvalidCursorException;
+import com.example.customermanagement.exception.InvalidFieldsParameterException;
 import com.example.customermanagement.exception.InvalidSortParameterException;
+import com.example.customermanagement.exception.PreconditionFailedException;
 import com.example.customermanagement.mapper.CustomerMapper;
+import com.example.customermanagement.mapper.CustomerPatchMapper;
 import com.example.customermanagement.model.Customer;
 import com.example.customermanagement.model.Gender;
 import com.example.customermanagement.repository.CustomerRepository;
+import jakarta.persistence.Tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -44,11 +67,16 @@ class CustomerServiceTest {
     @Mock
     private CustomerMapper customerMapper;
 
+    @Mock
+    private CustomerPatchMapper customerPatchMapper;
+
     private CustomerService customerService;
 
     @BeforeEach
     void setUp() {
-        customerService = new CustomerService(customerRepository, customerMapper);
+        customerService = new CustomerService(customerRepository, customerMapper, customerPatchMapper,
+                new CustomerSearchIndex(), new CustomerStatistics(),
+                new CaffeineCacheManager(CacheConfig.CUSTOMERS_CACHE));
     }
 
     @Nested
@@ -190,6 +218,281 @@ class CustomerServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Tests for getAllCustomers method with count mode")
+    class GetAllCustomersWithCountModeTests {
+
+        private final Pageable pageable = PageRequest.of(0, 10, Sort.by("name").ascending());
+
+        @Test
+        @DisplayName("Given count mode none_When getAllCustomers_Then return slice without count query")
+        void givenCountModeNone_WhenGetAllCustomers_ThenReturnSliceWithoutCountQuery() {
+            Customer customer = defaultCustomer()
+                    .id(1L)
+                    .build();
+            CustomerDTO customerDTO = defaultCustomerDTO()
+                    .id(1L)
+                    .build();
+
+            when(customerRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(customer), pageable, true));
+            when(customerMapper.toDTO(customer)).thenReturn(customerDTO);
+
+            Slice<CustomerDTO> result = customerService.getAllCustomers(0, 10, "name", "asc", "none");
+
+            assertFalse(result instanceof Page);
+            assertEquals(List.of(customerDTO), result.getContent());
+            assertTrue(result.hasNext());
+            verify(customerRepository).findAllBy(pageable);
+            verifyNoMoreInteractions(customerRepository);
+        }
+
+        @Test
+        @DisplayName("Given count mode cached_When customers are created and deleted_Then total is maintained without recounting")
+        void givenCountModeCached_WhenCustomersAreCreatedAndDeleted_ThenTotalIsMaintainedWithoutRecounting() {
+            when(customerRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
+            when(customerRepository.count()).thenReturn(5L);
+            when(customerRepository.save(any())).thenReturn(defaultCustomer().id(2L).build());
+            when(customerRepository.existsById(1L)).thenReturn(true);
+
+            Page<CustomerDTO> initial = (Page<CustomerDTO>) customerService.getAllCustomers(0, 10, "name", "asc", "cached");
+            customerService.createCustomer(defaultCustomerDTO().build());
+            customerService.createCustomer(defaultCustomerDTO().build());
+            customerService.deleteCustomer(1L, null);
+            Page<CustomerDTO> updated = (Page<CustomerDTO>) customerService.getAllCustomers(0, 10, "name", "asc", "cached");
+
+            assertEquals(5, initial.getTotalElements());
+            assertEquals(6, updated.getTotalElements());
+            verify(customerRepository, times(1)).count();
+            verify(customerRepository, times(2)).findAllBy(pageable);
+        }
+
+        @Test
+        @DisplayName("Given count mode exact_When getAllCustomers_Then cached total is resynchronized")
+        void givenCountModeExact_WhenGetAllCustomers_ThenCachedTotalIsResynchronized() {
+            when(customerRepository.findAll(pageable)).thenReturn(new PageImpl<>(Collections.emptyList(), pageable, 42));
+            when(customerRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
+
+            customerService.getAllCustomers(0, 10, "name", "asc", "exact");
+            Page<CustomerDTO> result = (Page<CustomerDTO>) customerService.getAllCustomers(0, 10, "name", "asc", "cached");
+
+            assertEquals(42, result.getTotalElements());
+            verify(customerRepository, never()).count();
+        }
+
+        @Test
+        @DisplayName("Given invalid count mode_When getAllCustomers_Then throw IllegalArgumentException")
+        void givenInvalidCountMode_WhenGetAllCustomers_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+                customerService.getAllCustomers(0, 10, "name", "asc", "invalidMode");
+            });
+
+            assertTrue(exception.getMessage().contains("Invalid count mode"));
+            verifyNoInteractions(customerRepository, customerMapper);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for getCustomersByCursor method")
+    class GetCustomersByCursorTests {
+
+        @Test
+        @DisplayName("Given empty cursor_When getCustomersByCursor_Then return first window with next cursor")
+        void givenEmptyCursor_WhenGetCustomersByCursor_ThenReturnFirstWindowWithNextCursor() {
+            Sort sort = Sort.by(Sort.Direction.ASC, "name");
+            Customer customer1 = defaultCustomer()
+                    .id(1L)
+                    .name("Alice")
+                    .build();
+            Customer customer2 = defaultCustomer()
+                    .id(2L)
+                    .name("Bob")
+                    .build();
+            CustomerDTO customerDTO1 = defaultCustomerDTO()
+                    .id(1L)
+                    .name("Alice")
+                    .build();
+            CustomerDTO customerDTO2 = defaultCustomerDTO()
+                    .id(2L)
+                    .name("Bob")
+                    .build();
+            List<Customer> customers = List.of(customer1, customer2);
+            Window<Customer> window = Window.from(customers,
+                    index -> ScrollPosition.forward(keysOf(customers.get(index))), true);
+
+            when(customerRepository.findBy(ScrollPosition.keyset(), sort, Limit.of(2))).thenReturn(window);
+            when(customerMapper.toDTO(customer1)).thenReturn(customerDTO1);
+            when(customerMapper.toDTO(customer2)).thenReturn(customerDTO2);
+
+            CursorPage<CustomerDTO> result = customerService.getCustomersByCursor("", 2, "name", "asc");
+
+            assertNotNull(result);
+            assertEquals(List.of(customerDTO1, customerDTO2), result.getContent());
+            assertTrue(result.isHasNext());
+            assertNotNull(result.getNextCursor());
+            verify(customerRepository).findBy(ScrollPosition.keyset(), sort, Limit.of(2));
+        }
+
+        @Test
+        @DisplayName("Given cursor from previous window_When getCustomersByCursor_Then seek after last row")
+        void givenCursorFromPreviousWindow_WhenGetCustomersByCursor_ThenSeekAfterLastRow() {
+            Sort sort = Sort.by(Sort.Direction.ASC, "name");
+            Customer lastCustomer = defaultCustomer()
+                    .id(2L)
+                    .name("Bob")
+                    .build();
+            List<Customer> firstWindowCustomers = List.of(lastCustomer);
+            Window<Customer> firstWindow = Window.from(firstWindowCustomers,
+                    index -> ScrollPosition.forward(keysOf(firstWindowCustomers.get(index))), true);
+            Window<Customer> lastWindow = Window.from(Collections.emptyList(), ScrollPosition::offset, false);
+
+            when(customerRepository.findBy(ScrollPosition.keyset(), sort, Limit.of(1))).thenReturn(firstWindow);
+            when(customerRepository.findBy(ScrollPosition.forward(keysOf(lastCustomer)), sort, Limit.of(1)))
+                    .thenReturn(lastWindow);
+
+            String nextCursor = customerService.getCustomersByCursor("", 1, "name", "asc").getNextCursor();
+            CursorPage<CustomerDTO> result = customerService.getCustomersByCursor(nextCursor, 1, "name", "asc");
+
+            assertTrue(result.getContent().isEmpty());
+            assertFalse(result.isHasNext());
+            assertNull(result.getNextCursor());
+            verify(customerRepository).findBy(ScrollPosition.forward(keysOf(lastCustomer)), sort, Limit.of(1));
+        }
+
+        @Test
+        @DisplayName("Given name with separator characters_When cursor is reused_Then seek after exact name")
+        void givenNameWithSeparatorCharacters_WhenCursorIsReused_ThenSeekAfterExactName() {
+            Sort sort = Sort.by(Sort.Direction.ASC, "name");
+            Customer lastCustomer = defaultCustomer()
+                    .id(2L)
+                    .name("Bob\u00003:id:Smith")
+                    .build();
+            List<Customer> firstWindowCustomers = List.of(lastCustomer);
+            Window<Customer> firstWindow = Window.from(firstWindowCustomers,
+                    index -> ScrollPosition.forward(keysOf(firstWindowCustomers.get(index))), true);
+            Window<Customer> lastWindow = Window.from(Collections.emptyList(), ScrollPosition::offset, false);
+
+            when(customerRepository.findBy(ScrollPosition.keyset(), sort, Limit.of(1))).thenReturn(firstWindow);
+            when(customerRepository.findBy(ScrollPosition.forward(keysOf(lastCustomer)), sort, Limit.of(1)))
+                    .thenReturn(lastWindow);
+
+            String nextCursor = customerService.getCustomersByCursor("", 1, "name", "asc").getNextCursor();
+            customerService.getCustomersByCursor(nextCursor, 1, "name", "asc");
+
+            verify(customerRepository).findBy(ScrollPosition.forward(keysOf(lastCustomer)), sort, Limit.of(1));
+        }
+
+        @Test
+        @DisplayName("Given cursor issued for other sort direction_When getCustomersByCursor_Then throw InvalidCursorException")
+        void givenCursorIssuedForOtherSortDirection_WhenGetCustomersByCursor_ThenThrowInvalidCursorException() {
+            Sort sort = Sort.by(Sort.Direction.ASC, "name");
+            Customer lastCustomer = defaultCustomer()
+                    .id(2L)
+                    .name("Bob")
+                    .build();
+            List<Customer> customers = List.of(lastCustomer);
+            Window<Customer> window = Window.from(customers,
+                    index -> ScrollPosition.forward(keysOf(customers.get(index))), true);
+
+            when(customerRepository.findBy(ScrollPosition.keyset(), sort, Limit.of(1))).thenReturn(window);
+
+            String nextCursor = customerService.getCustomersByCursor("", 1, "name", "asc").getNextCursor();
+            InvalidCursorException exception = assertThrows(InvalidCursorException.class,
+                    () -> customerService.getCustomersByCursor(nextCursor, 1, "name", "desc"));
+
+            assertTrue(exception.getMessage().contains("sort direction"));
+            verify(customerRepository).findBy(ScrollPosition.keyset(), sort, Limit.of(1));
+            verifyNoMoreInteractions(customerRepository);
+        }
+
+        @Test
+        @DisplayName("Given malformed cursor_When getCustomersByCursor_Then throw InvalidCursorException")
+        void givenMalformedCursor_WhenGetCustomersByCursor_ThenThrowInvalidCursorException() {
+            assertThrows(InvalidCursorException.class, () -> {
+                customerService.getCustomersByCursor("not a cursor!", 10, "name", "asc");
+            });
+
+            verifyNoInteractions(customerRepository, customerMapper);
+        }
+
+        @Test
+        @DisplayName("Given cursor with id tagged as a date_When getCustomersByCursor_Then throw InvalidCursorException")
+        void givenCursorWithIdTaggedAsDate_WhenGetCustomersByCursor_ThenThrowInvalidCursorException() {
+            String forgedCursor = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString("3:ASC4:name4:SBob2:id11:D2024-01-01".getBytes(StandardCharsets.UTF_8));
+
+            InvalidCursorException exception = assertThrows(InvalidCursorException.class,
+                    () -> customerService.getCustomersByCursor(forgedCursor, 10, "name", "asc"));
+
+            assertTrue(exception.getMessage().contains("sort parameter"));
+            verifyNoInteractions(customerRepository, customerMapper);
+        }
+
+        @Test
+        @DisplayName("Given nullable sortBy parameter_When getCustomersByCursor_Then throw InvalidSortParameterException")
+        void givenNullableSortByParameter_WhenGetCustomersByCursor_ThenThrowInvalidSortParameterException() {
+            InvalidSortParameterException exception = assertThrows(InvalidSortParameterException.class, () -> {
+                customerService.getCustomersByCursor("", 10, "address", "asc");
+            });
+
+            assertTrue(exception.getMessage().contains("Invalid sort parameter"));
+            verifyNoInteractions(customerRepository, customerMapper);
+        }
+
+        private Map<String, Object> keysOf(Customer customer) {
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("name", customer.getName());
+            keys.put("id", customer.getId());
+            return keys;
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for getCustomerFields and getCustomerFieldsById methods")
+    class GetCustomerFieldsTests {
+
+        @Test
+        @DisplayName("Given allowed fields_When getCustomerFields_Then only requested fields are returned in request order")
+        void givenAllowedFields_WhenGetCustomerFields_ThenOnlyRequestedFieldsAreReturnedInRequestOrder() {
+            Pageable pageable = PageRequest.of(0, 10, Sort.by("name").ascending());
+            List<String> fields = List.of("name", "id", "dateOfBirth", "gender");
+            Tuple tuple = mock(Tuple.class);
+            when(tuple.get("name")).thenReturn("John");
+            when(tuple.get("id")).thenReturn(1L);
+            when(tuple.get("dateOfBirth")).thenReturn(LocalDate.of(1994, 4, 15));
+            when(tuple.get("gender")).thenReturn(Gender.M);
+            when(customerRepository.findFields(fields, pageable)).thenReturn(new SliceImpl<>(List.of(tuple), pageable, false));
+
+            Slice<Map<String, Object>> result = customerService.getCustomerFields(0, 10, "name", "asc", "none",
+                    "name, id,dateOfBirth,gender");
+
+            Map<String, Object> customer = result.getContent().get(0);
+            assertEquals(List.of("name", "id", "dateOfBirth", "gender"), List.copyOf(customer.keySet()));
+            assertEquals("John", customer.get("name"));
+            assertEquals(1L, customer.get("id"));
+            assertEquals("1994-04-15", customer.get("dateOfBirth"));
+            assertEquals("M", customer.get("gender"));
+            verify(customerRepository, never()).count();
+        }
+
+        @Test
+        @DisplayName("Given field not in allowlist_When getCustomerFields_Then throw InvalidFieldsParameterException")
+        void givenFieldNotInAllowlist_WhenGetCustomerFields_ThenThrowInvalidFieldsParameterException() {
+            InvalidFieldsParameterException exception = assertThrows(InvalidFieldsParameterException.class,
+                    () -> customerService.getCustomerFields(0, 10, "name", "asc", "exact", "id,password"));
+
+            assertTrue(exception.getMessage().contains("Invalid field 'password'"));
+            verifyNoInteractions(customerRepository);
+        }
+
+        @Test
+        @DisplayName("Given non-existent id_When getCustomerFieldsById_Then throw CustomerNotFoundException")
+        void givenNonExistentId_WhenGetCustomerFieldsById_ThenThrowCustomerNotFoundException() {
+            when(customerRepository.findFieldsById(99L, List.of("id", "name"))).thenReturn(Optional.empty());
+
+            assertThrows(CustomerNotFoundException.class, () -> customerService.getCustomerFieldsById(99L, "id,name"));
+        }
+    }
+
     @Nested
     @DisplayName("Tests for getCustomerById method")
     class GetCustomerByIdTests {
@@ -232,6 +535,41 @@ class CustomerServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Tests for getCustomersByIds method")
+    class GetCustomersByIdsTests {
+
+        @Test
+        @DisplayName("Given ids with a missing customer_When getCustomersByIds_Then customers follow request order and missing id is listed")
+        void givenIdsWithMissingCustomer_WhenGetCustomersByIds_ThenCustomersFollowRequestOrderAndMissingIdIsListed() {
+            Customer customer1 = defaultCustomer().id(1L).build();
+            Customer customer3 = defaultCustomer().id(3L).build();
+            CustomerDTO customerDTO1 = defaultCustomerDTO().id(1L).build();
+            CustomerDTO customerDTO3 = defaultCustomerDTO().id(3L).build();
+
+            when(customerRepository.findAllById(List.of(3L, 2L, 1L))).thenReturn(List.of(customer1, customer3));
+            when(customerMapper.toDTO(customer1)).thenReturn(customerDTO1);
+            when(customerMapper.toDTO(customer3)).thenReturn(customerDTO3);
+
+            BatchGetResult result = customerService.getCustomersByIds(List.of(3L, 2L, 1L));
+
+            assertEquals(List.of(customerDTO3, customerDTO1), result.getCustomers());
+            assertEquals(List.of(2L), result.getMissingIds());
+            verify(customerRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Given duplicate and null ids_When getCustomersByIds_Then each id is looked up once")
+        void givenDuplicateAndNullIds_WhenGetCustomersByIds_ThenEachIdIsLookedUpOnce() {
+            when(customerRepository.findAllById(List.of(5L, 6L))).thenReturn(List.of());
+
+            BatchGetResult result = customerService.getCustomersByIds(Arrays.asList(5L, null, 6L, 5L));
+
+            assertTrue(result.getCustomers().isEmpty());
+            assertEquals(List.of(5L, 6L), result.getMissingIds());
+        }
+    }
+
     @Nested
     @DisplayName("Tests for updateCustomer method")
     class UpdateCustomerTests {
@@ -261,16 +599,16 @@ class CustomerServiceTest {
 
             when(customerRepository.findById(id)).thenReturn(Optional.of(existingCustomer));
             doNothing().when(customerMapper).updateEntityFromDTO(updateDTO, existingCustomer);
-            when(customerRepository.save(existingCustomer)).thenReturn(updatedCustomer);
+            when(customerRepository.saveAndFlush(existingCustomer)).thenReturn(updatedCustomer);
             when(customerMapper.toDTO(updatedCustomer)).thenReturn(updatedCustomerDTO);
 
-            CustomerDTO result = customerService.updateCustomer(id, updateDTO);
+            CustomerDTO result = customerService.updateCustomer(id, updateDTO, null);
 
             assertNotNull(result);
             assertEquals(updatedCustomerDTO, result);
             verify(customerRepository).findById(id);
             verify(customerMapper).updateEntityFromDTO(updateDTO, existingCustomer);
-            verify(customerRepository).save(existingCustomer);
+            verify(customerRepository).saveAndFlush(existingCustomer);
             verify(customerMapper).toDTO(updatedCustomer);
         }
 
@@ -283,13 +621,114 @@ class CustomerServiceTest {
             when(customerRepository.findById(id)).thenReturn(Optional.empty());
 
             CustomerNotFoundException exception = assertThrows(CustomerNotFoundException.class, () -> {
-                customerService.updateCustomer(id, updateDTO);
+                customerService.updateCustomer(id, updateDTO, null);
             });
 
             assertTrue(exception.getMessage().contains("Customer not found with id " + id));
             verify(customerRepository).findById(id);
             verifyNoMoreInteractions(customerMapper, customerRepository);
         }
+
+        @Test
+        @DisplayName("Given stale expected version_When updateCustomer_Then throw PreconditionFailedException")
+        void givenStaleExpectedVersion_WhenUpdateCustomer_ThenThrowPreconditionFailedException() {
+            Long id = 1L;
+            CustomerDTO updateDTO = defaultCustomerDTO().build();
+            Customer existingCustomer = defaultCustomer().version(3L).build();
+
+            when(customerRepository.findById(id)).thenReturn(Optional.of(existingCustomer));
+
+            assertThrows(PreconditionFailedException.class, () -> customerService.updateCustomer(id, updateDTO, 2L));
+
+            verify(customerRepository, never()).saveAndFlush(existingCustomer);
+            verifyNoInteractions(customerMapper);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for patchCustomer method")
+    class PatchCustomerTests {
+
+        @Test
+        @DisplayName("Given patch with changed address_When patchCustomer_Then only that column is updated before the customer is read")
+        void givenPatchWithChangedAddress_WhenPatchCustomer_ThenOnlyThatColumnIsUpdatedBeforeTheCustomerIsRead() {
+            Long id = 1L;
+            Map<String, Object> patch = Map.of("address", "1 New Street");
+            Customer patchedCustomer = defaultCustomer().id(id).address("1 New Street").version(4L).build();
+            CustomerDTO patchedCustomerDTO = defaultCustomerDTO().id(id).address("1 New Street").version(4L).build();
+
+            when(customerPatchMapper.toColumnValues(patch)).thenReturn(Map.of("address", "1 New Street"));
+            when(customerRepository.updateFields(id, Map.of("address", "1 New Street"), 3L)).thenReturn(1);
+            when(customerRepository.findById(id)).thenReturn(Optional.of(patchedCustomer));
+            when(customerMapper.toDTO(patchedCustomer)).thenReturn(patchedCustomerDTO);
+
+            CustomerDTO result = customerService.patchCustomer(id, patch, 3L);
+
+            assertEquals(patchedCustomerDTO, result);
+            InOrder order = inOrder(customerRepository);
+            order.verify(customerRepository).updateFields(id, Map.of("address", "1 New Street"), 3L);
+            order.verify(customerRepository).findById(id);
+            verify(customerMapper, never()).updateEntityFromDTO(any(), any());
+        }
+
+        @Test
+        @DisplayName("Given stale expected version_When patchCustomer_Then throw PreconditionFailedException")
+        void givenStaleExpectedVersion_WhenPatchCustomer_ThenThrowPreconditionFailedException() {
+            Long id = 1L;
+            Map<String, Object> patch = Map.of("age", 41);
+
+            when(customerPatchMapper.toColumnValues(patch)).thenReturn(Map.of("age", 41));
+            when(customerRepository.updateFields(id, Map.of("age", 41), 3L)).thenReturn(0);
+            when(customerRepository.findVersionById(id)).thenReturn(Optional.of(5L));
+
+            assertThrows(PreconditionFailedException.class, () -> customerService.patchCustomer(id, patch, 3L));
+
+            verify(customerRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Given non-existent customer ID_When patchCustomer_Then throw CustomerNotFoundException")
+        void givenNonExistentCustomerId_WhenPatchCustomer_ThenThrowCustomerNotFoundException() {
+            Long id = 1L;
+            Map<String, Object> patch = Map.of("age", 41);
+
+            when(customerPatchMapper.toColumnValues(patch)).thenReturn(Map.of("age", 41));
+            when(customerRepository.updateFields(id, Map.of("age", 41), null)).thenReturn(0);
+            when(customerRepository.findVersionById(id)).thenReturn(Optional.empty());
+
+            assertThrows(CustomerNotFoundException.class, () -> customerService.patchCustomer(id, patch, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for deleteCustomers method")
+    class DeleteCustomersTests {
+
+        @Test
+        @DisplayName("Given some existing ids_When deleteCustomers_Then only existing ids are deleted in one statement")
+        void givenSomeExistingIds_WhenDeleteCustomers_ThenOnlyExistingIdsAreDeletedInOneStatement() {
+            List<Long> ids = List.of(1L, 2L, 3L);
+            when(customerRepository.findExistingIds(ids)).thenReturn(List.of(1L, 3L));
+            when(customerRepository.deleteAllByIdIn(List.of(1L, 3L))).thenReturn(2);
+
+            List<Long> deletedIds = customerService.deleteCustomers(ids);
+
+            assertEquals(List.of(1L, 3L), deletedIds);
+            verify(customerRepository).deleteAllByIdIn(List.of(1L, 3L));
+            verify(customerRepository, never()).deleteById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Given no existing ids_When deleteCustomers_Then no delete is issued")
+        void givenNoExistingIds_WhenDeleteCustomers_ThenNoDeleteIsIssued() {
+            List<Long> ids = List.of(7L, 8L);
+            when(customerRepository.findExistingIds(ids)).thenReturn(List.of());
+
+            List<Long> deletedIds = customerService.deleteCustomers(ids);
+
+            assertTrue(deletedIds.isEmpty());
+            verify(customerRepository, never()).deleteAllByIdIn(any());
+        }
     }
 
     @Nested
@@ -303,7 +742,7 @@ class CustomerServiceTest {
             when(customerRepository.existsById(id)).thenReturn(true);
             doNothing().when(customerRepository).deleteById(id);
 
-            assertDoesNotThrow(() -> customerService.deleteCustomer(id));
+            assertDoesNotThrow(() -> customerService.deleteCustomer(id, null));
 
             verify(customerRepository).existsById(id);
             verify(customerRepository).deleteById(id);
@@ -316,13 +755,35 @@ class CustomerServiceTest {
             when(customerRepository.existsById(id)).thenReturn(false);
 
             CustomerNotFoundException exception = assertThrows(CustomerNotFoundException.class, () -> {
-                customerService.deleteCustomer(id);
+                customerService.deleteCustomer(id, null);
             });
 
             assertTrue(exception.getMessage().contains("Customer not found with id " + id));
             verify(customerRepository).existsById(id);
             verify(customerRepository, never()).deleteById(anyLong());
         }
+
+        @Test
+        @DisplayName("Given matching expected version_When deleteCustomer_Then customer is deleted")
+        void givenMatchingExpectedVersion_WhenDeleteCustomer_ThenCustomerIsDeleted() {
+            Long id = 1L;
+            when(customerRepository.findVersionById(id)).thenReturn(Optional.of(3L));
+
+            customerService.deleteCustomer(id, 3L);
+
+            verify(customerRepository).deleteById(id);
+        }
+
+        @Test
+        @DisplayName("Given stale expected version_When deleteCustomer_Then throw PreconditionFailedException")
+        void givenStaleExpectedVersion_WhenDeleteCustomer_ThenThrowPreconditionFailedException() {
+            Long id = 1L;
+            when(customerRepository.findVersionById(id)).thenReturn(Optional.of(4L));
+
+            assertThrows(PreconditionFailedException.class, () -> customerService.deleteCustomer(id, 3L));
+
+            verify(customerRepository, never()).deleteById(anyLong());
+        }
     }
 
     private CustomerDTO.CustomerDTOBuilder defaultCustomerDTO() {
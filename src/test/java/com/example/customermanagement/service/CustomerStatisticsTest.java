@@ -0,0 +1,112 @@
+package com.example.customermanagement.service;
+
+import com.example.customermanagement.dto.CustomerStatsDTO;
+import com.example.customermanagement.model.Customer;
+import com.example.customermanagement.model.Gender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CustomerStatisticsTest {
+
+    private CustomerStatistics customerStatistics;
+
+    @BeforeEach
+    void setUp() {
+        customerStatistics = new CustomerStatistics();
+        customerStatistics.rebuild(Stream.of(
+                customer(1L, Gender.M, 30, "1994-04-15"),
+                customer(2L, Gender.F, 17, "2007-01-01"),
+                customer(3L, null, 65, "1959-12-31")));
+    }
+
+    @Test
+    @DisplayName("Given rebuilt statistics_When snapshot_Then customers are counted by gender, age bucket and birth decade")
+    void givenRebuiltStatistics_WhenSnapshot_ThenCustomersAreCountedByGenderAgeBucketAndBirthDecade() {
+        CustomerStatsDTO stats = customerStatistics.snapshot();
+
+        assertEquals(3, stats.getTotal());
+        assertEquals(Map.of("F", 1L, "M", 1L, "UNKNOWN", 1L), stats.getByGender());
+        assertEquals(1L, stats.getByAgeBucket().get("0-17"));
+        assertEquals(1L, stats.getByAgeBucket().get("25-34"));
+        assertEquals(1L, stats.getByAgeBucket().get("65+"));
+        assertEquals(0L, stats.getByAgeBucket().get("45-54"));
+        assertEquals(List.of("0-17", "18-24", "25-34", "35-44", "45-54", "55-64", "65+"),
+                List.copyOf(stats.getByAgeBucket().keySet()));
+        assertEquals(Map.of("1950s", 1L, "1990s", 1L, "2000s", 1L), stats.getByBirthDecade());
+    }
+
+    @Test
+    @DisplayName("Given updated customer_When record_Then customer moves between buckets")
+    void givenUpdatedCustomer_WhenRecord_ThenCustomerMovesBetweenBuckets() {
+        customerStatistics.record(customer(1L, Gender.F, 45, "1979-04-15"));
+
+        CustomerStatsDTO stats = customerStatistics.snapshot();
+
+        assertEquals(3, stats.getTotal());
+        assertEquals(2L, stats.getByGender().get("F"));
+        assertNull(stats.getByGender().get("M"));
+        assertEquals(0L, stats.getByAgeBucket().get("25-34"));
+        assertEquals(1L, stats.getByAgeBucket().get("45-54"));
+        assertEquals(Map.of("1950s", 1L, "1970s", 1L, "2000s", 1L), stats.getByBirthDecade());
+    }
+
+    @Test
+    @DisplayName("Given existing and unknown ids_When removeAll_Then only existing customers are subtracted")
+    void givenExistingAndUnknownIds_WhenRemoveAll_ThenOnlyExistingCustomersAreSubtracted() {
+        customerStatistics.removeAll(List.of(2L, 3L, 99L));
+
+        CustomerStatsDTO stats = customerStatistics.snapshot();
+
+        assertEquals(1, stats.getTotal());
+        assertEquals(Map.of("M", 1L), stats.getByGender());
+        assertEquals(Map.of("1990s", 1L), stats.getByBirthDecade());
+    }
+
+    @Test
+    @DisplayName("Given active transaction_When recordAfterCommit_Then counts change only after commit")
+    void givenActiveTransaction_WhenRecordAfterCommit_ThenCountsChangeOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            customerStatistics.recordAfterCommit(customer(4L, Gender.M, 50, "1974-02-02"));
+
+            assertEquals(3, customerStatistics.snapshot().getTotal());
+
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(4, customerStatistics.snapshot().getTotal());
+    }
+
+    @Test
+    @DisplayName("Given ages on bucket boundaries_When ageBucket_Then each age falls in the bucket it starts")
+    void givenAgesOnBucketBoundaries_WhenAgeBucket_ThenEachAgeFallsInTheBucketItStarts() {
+        assertEquals("0-17", CustomerStatistics.ageBucket(0));
+        assertEquals("18-24", CustomerStatistics.ageBucket(18));
+        assertEquals("55-64", CustomerStatistics.ageBucket(64));
+        assertEquals("65+", CustomerStatistics.ageBucket(120));
+        assertEquals("UNKNOWN", CustomerStatistics.ageBucket(null));
+    }
+
+    private static Customer customer(Long id, Gender gender, int age, String dateOfBirth) {
+        return Customer.builder()
+                .id(id)
+                .name("Customer " + id)
+                .gender(gender)
+                .age(age)
+                .dateOfBirth(LocalDate.parse(dateOfBirth))
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.customermanagement.validation;
+
+import com.example.customermanagement.dto.CustomerDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link CustomerDTOValidator} reports exactly what the annotation-driven bean
+ * validator reports for the same customer.
+ */
+class CustomerDTOValidatorTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator beanValidator;
+
+    private final CustomerDTOValidator customerDTOValidator = new CustomerDTOValidator(TODAY);
+
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDownValidator() {
+        validatorFactory.close();
+    }
+
+    static Stream<CustomerDTO> customers() {
+        return Stream.of(
+                valid().build(),
+                valid().address(null).gender(null).build(),
+                CustomerDTO.builder().build(),
+                valid().name("").build(),
+                valid().name("a".repeat(100)).build(),
+                valid().name("a".repeat(101)).build(),
+                valid().age(1).build(),
+                valid().age(0).build(),
+                valid().age(-5).build(),
+                valid().age(Integer.MIN_VALUE).build(),
+                valid().dateOfBirth(TODAY.toString()).build(),
+                valid().dateOfBirth(TODAY.plusDays(1).toString()).build(),
+                valid().dateOfBirth(TODAY.minusDays(1).toString()).build(),
+                valid().dateOfBirth(TODAY.plusYears(1).withDayOfYear(1).toString()).build(),
+                valid().dateOfBirth("2024-02-29").build(),
+                valid().dateOfBirth("2023-02-29").build(),
+                valid().dateOfBirth("2023-13-01").build(),
+                valid().dateOfBirth("2023-04-31").build(),
+                valid().dateOfBirth("-0001-01-01").build(),
+                valid().dateOfBirth("+10000-01-01").build(),
+                valid().dateOfBirth("2023-1-1").build(),
+                valid().dateOfBirth("1993-01-01T00:00").build(),
+                valid().dateOfBirth("").build(),
+                valid().dateOfBirth("          ").build(),
+                valid().dateOfBirth("199a-01-01").build(),
+                valid().address("a".repeat(200)).build(),
+                valid().address("a".repeat(201)).build(),
+                valid().gender("F").build(),
+                valid().gender("X").build(),
+                valid().gender("m").build(),
+                valid().gender("MF").build(),
+                valid().gender("").build(),
+                CustomerDTO.builder().name("a".repeat(101)).age(0).dateOfBirth("not-a-date")
+                        .address("a".repeat(201)).gender("X").build()
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("customers")
+    @DisplayName("Given customer_When validated by both validators_Then the same violations are reported")
+    void givenCustomer_WhenValidatedByBothValidators_ThenTheSameViolationsAreReported(CustomerDTO customerDTO) {
+        assertEquals(beanValidation(customerDTO), customerDTOValidator.validate(customerDTO));
+    }
+
+    @Test
+    @DisplayName("Given valid customer_When validate_Then no violations are reported")
+    void givenValidCustomer_WhenValidate_ThenNoViolationsAreReported() {
+        assertTrue(customerDTOValidator.validate(valid().build()).isEmpty());
+    }
+
+    private static Map<String, String> beanValidation(CustomerDTO customerDTO) {
+        Map<String, String> errors = new HashMap<>();
+        for (ConstraintViolation<CustomerDTO> violation : beanValidator.validate(customerDTO)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+    private static CustomerDTO.CustomerDTOBuilder valid() {
+        return CustomerDTO.builder()
+                .name("John")
+                .age(30)
+                .dateOfBirth("1993-01-01")
+                .address("123 Street")
+                .gender("M");
+    }
+}
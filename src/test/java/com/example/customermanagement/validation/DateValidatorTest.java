@@ -25,7 +25,7 @@ class DateValidatorTest {
 
     @ParameterizedTest
     @NullSource
-    @ValueSource(strings = {"2020-01-01", "0001-01-01"})
+    @ValueSource(strings = {"2020-01-01", "0001-01-01", "0000-01-01", "2024-02-29", "-0001-12-31"})
     void givenValidPastOrNullDate_whenValidated_thenReturnsTrue(String dateStr) {
         boolean result = dateValidator.isValid(dateStr, context);
         assertTrue(result, "Date \"" + dateStr + "\" should be valid");
@@ -37,7 +37,14 @@ class DateValidatorTest {
             "   ",
             "invalid-date",
             "2023-02-30",
+            "2023-02-29",
+            "2023-13-01",
+            "2023-00-10",
+            "2023-01-00",
+            "2023-1-01",
+            "2023/01/01",
             "9999-12-31",
+            "+10000-01-01",
             "2023-09-25T10:15:30",
             "25-09-2023"
     })